@@ -13,6 +13,10 @@
 -- Grant USAGE on schema
 GRANT USAGE ON SCHEMA public TO <DB_USER>;
 
+-- Flyway migrations run as this user at startup, and ReviewPartitionMaintenanceJob creates and
+-- detaches partitions of reviews, which requires owning that table
+GRANT CREATE ON SCHEMA public TO <DB_USER>;
+
 -- Grant SELECT, INSERT, UPDATE permissions on all existing tables
 GRANT SELECT, INSERT, UPDATE ON ALL TABLES IN SCHEMA public TO <DB_USER>;
 
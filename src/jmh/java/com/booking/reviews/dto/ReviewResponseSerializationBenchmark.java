@@ -0,0 +1,78 @@
+package com.booking.reviews.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of review responses as the controllers return them. The mapper is built
+ * with the same defaults Spring Boot applies to its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ReviewResponse review;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        review = review(1);
+    }
+
+    @Benchmark
+    public byte[] serializeReview() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(review);
+    }
+
+    @Benchmark
+    public byte[] serializePage(PageInput input) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(input.page);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageInput {
+
+        @Param({"20", "100"})
+        public int pageSize;
+
+        private Page<ReviewResponse> page;
+
+        @Setup
+        public void setUp() {
+            List<ReviewResponse> content = new ArrayList<>(pageSize);
+            for (long i = 1; i <= pageSize; i++) {
+                content.add(review(i));
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 500);
+        }
+    }
+
+    private static ReviewResponse review(long id) {
+        return ReviewResponse.builder()
+                .reviewId(id)
+                .roomId(1L)
+                .bookingId(id)
+                .rating((short) (1 + id % 5))
+                .comment("Great stay! Very comfortable room.")
+                .reviewerEmail("guest" + id + "@example.com")
+                .reviewerName("Guest " + id)
+                .createdAt(LocalDateTime.of(2025, 12, 25, 17, 20).minusHours(id))
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.booking.reviews.service;
+
+import com.amazonaws.services.simplesystemsmanagement.AWSSimpleSystemsManagement;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParameterResult;
+import com.amazonaws.services.simplesystemsmanagement.model.Parameter;
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelType;
+import com.booking.reviews.entity.Room;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Reference data shared by the service benchmarks: one hotel type, one hotel per ID and rooms
+ * spread across the hotels.
+ */
+final class BenchmarkFixtures {
+
+    static final long HOTEL_TYPE_ID = 1L;
+    static final int HOTELS = 100;
+    static final int ROOMS = 200;
+
+    private BenchmarkFixtures() {
+    }
+
+    static Map<Long, Hotel> hotels() {
+        return LongStream.rangeClosed(1, HOTELS)
+                .mapToObj(id -> Hotel.builder()
+                        .hotelId(id)
+                        .hotelTypeId(HOTEL_TYPE_ID)
+                        .hotelName("Hotel " + id)
+                        .build())
+                .collect(Collectors.toMap(Hotel::getHotelId, Function.identity()));
+    }
+
+    static Map<Long, Room> rooms() {
+        return LongStream.rangeClosed(1, ROOMS)
+                .mapToObj(id -> Room.builder()
+                        .roomId(id)
+                        .hotelId(1 + (id - 1) % HOTELS)
+                        .roomNumber(String.valueOf(100 + id))
+                        .build())
+                .collect(Collectors.toMap(Room::getRoomId, Function.identity()));
+    }
+
+    static HotelType hotelType(boolean reviewEnabled) {
+        return HotelType.builder()
+                .hotelTypeId(HOTEL_TYPE_ID)
+                .typeName("Benchmark")
+                .reviewEnabled(reviewEnabled)
+                .build();
+    }
+
+    /**
+     * A warmed-up toggle service backed by a Parameter Store stub, so reads hit the cached snapshot
+     * the same way they do in production.
+     */
+    static FeatureToggleService featureToggle(boolean enabled) {
+        GetParameterResult result = new GetParameterResult()
+                .withParameter(new Parameter().withValue(String.valueOf(enabled)));
+        AWSSimpleSystemsManagement ssm = RepositoryStubs.of(AWSSimpleSystemsManagement.class)
+                .on("getParameter", args -> result)
+                .build();
+
+        FeatureToggleService service = new FeatureToggleService(ssm, "/benchmark/write-review-enabled",
+                false, Duration.ofMinutes(30), Runnable::run, new SimpleMeterRegistry());
+        service.warmUp();
+        return service;
+    }
+
+    static <T> Function<Object[], Object> lookup(Map<Long, T> rows) {
+        return args -> Optional.ofNullable(rows.get((Long) args[0]));
+    }
+}
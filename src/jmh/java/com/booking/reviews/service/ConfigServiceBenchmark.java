@@ -0,0 +1,90 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.ConfigResponse;
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelType;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.HotelTypeRepository;
+import com.booking.reviews.repository.projection.HotelReviewSetting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * {@link ConfigService} decision logic for each scope it can resolve to, with the repositories
+ * and Parameter Store replaced by in-memory stubs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigServiceBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"ENABLED", "GLOBAL", "HOTEL_TYPE"})
+    public String scope;
+
+    private ConfigService configService;
+    private List<Long> batchHotelIds;
+
+    @Setup
+    public void setUp() {
+        boolean globalEnabled = !"GLOBAL".equals(scope);
+        boolean hotelTypeEnabled = !"HOTEL_TYPE".equals(scope);
+
+        Map<Long, Hotel> hotels = BenchmarkFixtures.hotels();
+        HotelType hotelType = BenchmarkFixtures.hotelType(hotelTypeEnabled);
+
+        batchHotelIds = LongStream.rangeClosed(1, BATCH_SIZE).boxed().toList();
+        List<HotelReviewSetting> settings = batchHotelIds.stream()
+                .map(hotelId -> (HotelReviewSetting) new Setting(
+                        hotelId, BenchmarkFixtures.HOTEL_TYPE_ID, hotelTypeEnabled))
+                .toList();
+
+        HotelRepository hotelRepository = RepositoryStubs.of(HotelRepository.class)
+                .on("findByHotelId", BenchmarkFixtures.lookup(hotels))
+                .on("findReviewSettingsByHotelIds", args -> settings)
+                .build();
+        HotelTypeRepository hotelTypeRepository = RepositoryStubs.of(HotelTypeRepository.class)
+                .on("findByHotelTypeId", args -> Optional.of(hotelType))
+                .build();
+
+        configService = new ConfigService(hotelRepository, hotelTypeRepository,
+                BenchmarkFixtures.featureToggle(globalEnabled));
+    }
+
+    @Benchmark
+    public ConfigResponse getReviewConfig() {
+        return configService.getReviewConfig(1L);
+    }
+
+    @Benchmark
+    public Map<Long, ConfigResponse> getReviewConfigs() {
+        return configService.getReviewConfigs(batchHotelIds);
+    }
+
+    private record Setting(Long hotelId, Long hotelTypeId, Boolean reviewEnabled) implements HotelReviewSetting {
+
+        @Override
+        public Long getHotelId() {
+            return hotelId;
+        }
+
+        @Override
+        public Long getHotelTypeId() {
+            return hotelTypeId;
+        }
+
+        @Override
+        public Boolean getReviewEnabled() {
+            return reviewEnabled;
+        }
+    }
+}
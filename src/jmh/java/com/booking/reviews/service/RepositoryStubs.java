@@ -0,0 +1,54 @@
+package com.booking.reviews.service;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds in-memory stand-ins for repository and client interfaces. Each stub is a JDK proxy that
+ * answers the methods it has a handler for and throws for anything else, so a benchmark fails
+ * loudly when the code under test starts calling a method nobody stubbed.
+ */
+final class RepositoryStubs<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+    private RepositoryStubs(Class<T> type) {
+        this.type = type;
+    }
+
+    static <T> RepositoryStubs<T> of(Class<T> type) {
+        return new RepositoryStubs<>(type);
+    }
+
+    /**
+     * Answers every overload of {@code method} with {@code handler}, which receives the call arguments.
+     */
+    RepositoryStubs<T> on(String method, Function<Object[], Object> handler) {
+        handlers.put(method, handler);
+        return this;
+    }
+
+    T build() {
+        Map<String, Function<Object[], Object>> answers = Map.copyOf(handlers);
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "stub " + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    Function<Object[], Object> handler = answers.get(method.getName());
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+                    }
+                    return handler.apply(args);
+            }
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,284 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.dto.ReviewStatsResponse;
+import com.booking.reviews.entity.*;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.repository.projection.ReviewTarget;
+import com.booking.reviews.repository.projection.RoomRatingCount;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * CPU cost of the {@link ReviewService} read and write paths with the database taken out:
+ * repositories are in-memory stubs that hand back prebuilt rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewServiceBenchmark {
+
+    /** Rooms 1..100 have an aggregate row; the rest fall back to the rating-count query. */
+    private static final long ROOMS_WITH_AGGREGATE = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 50;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 25, 17, 20);
+
+    private ReviewService reviewService;
+    private Review review;
+    private Booking booking;
+    private ReviewRequest request;
+    private List<Long> batchRoomIds;
+
+    @Setup
+    public void setUp() {
+        Map<Long, Room> rooms = BenchmarkFixtures.rooms();
+        Map<Long, Hotel> hotels = BenchmarkFixtures.hotels();
+        HotelType hotelType = BenchmarkFixtures.hotelType(true);
+
+        Map<Long, RoomReviewStats> roomStats = new HashMap<>();
+        Map<Long, List<RoomRatingCount>> ratingCounts = new HashMap<>();
+        for (long roomId = 1; roomId <= BenchmarkFixtures.ROOMS; roomId++) {
+            List<RoomRatingCount> rows = ratingCounts(roomId);
+            ratingCounts.put(roomId, rows);
+            if (roomId <= ROOMS_WITH_AGGREGATE) {
+                RoomReviewStats stats = RoomReviewStats.builder().roomId(roomId).build();
+                RatingTally.of(rows).copyTo(stats);
+                roomStats.put(roomId, stats);
+            }
+        }
+
+        booking = Booking.builder()
+                .bookingId(1L)
+                .roomId(1L)
+                .guestName("John Doe")
+                .guestEmail("guest@example.com")
+                .build();
+        review = Review.builder()
+                .reviewId(1L)
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 5)
+                .comment("Great stay! Very comfortable room.")
+                .createdAt(NOW)
+                .build();
+        request = ReviewRequest.builder()
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 5)
+                .comment("Great stay! Very comfortable room.")
+                .reviewerEmail("guest@example.com")
+                .reviewerName("John Doe")
+                .build();
+
+        List<ReviewResponse> pageContent = new ArrayList<>(PAGE_SIZE);
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            ReviewResponse response = ReviewService.mapToResponse(review, booking);
+            response.setReviewId(i);
+            pageContent.add(response);
+        }
+
+        batchRoomIds = LongStream.rangeClosed(1, BATCH_SIZE).boxed().toList();
+        List<RoomRatingCount> batchRatingCounts = batchRoomIds.stream()
+                .flatMap(roomId -> ratingCounts.get(roomId).stream())
+                .toList();
+
+        AtomicLong reviewIds = new AtomicLong();
+        ReviewRepository reviewRepository = RepositoryStubs.of(ReviewRepository.class)
+                .on("findResponsesByRoomId", args -> page(pageContent, (Pageable) args[1]))
+                .on("findRatingCountsByRoomId", args -> ratingCounts.get((Long) args[0]))
+                .on("findRatingCountsByRoomIds", args -> batchRatingCounts)
+                .on("saveAndFlush", args -> {
+                    Review saved = (Review) args[0];
+                    saved.setReviewId(reviewIds.incrementAndGet());
+                    saved.setCreatedAt(NOW);
+                    return saved;
+                })
+                .build();
+        Room room = rooms.get(1L);
+        Hotel hotel = hotels.get(room.getHotelId());
+        ReviewTarget target = new Target(room.getRoomId(), room.getHotelId(), booking.getBookingId(), booking.getRoomId(),
+                booking.getGuestEmail(), booking.getGuestName(), hotel.getHotelId(), hotel.getHotelTypeId(),
+                hotelType.getReviewEnabled());
+        RoomRepository roomRepository = RepositoryStubs.of(RoomRepository.class)
+                .on("findByRoomId", BenchmarkFixtures.lookup(rooms))
+                .on("findReviewTarget", args -> Optional.of(target))
+                .on("findExistingRoomIds", args -> batchRoomIds)
+                .build();
+        HotelRepository hotelRepository = RepositoryStubs.of(HotelRepository.class)
+                .on("findByHotelId", BenchmarkFixtures.lookup(hotels))
+                .build();
+        HotelTypeRepository hotelTypeRepository = RepositoryStubs.of(HotelTypeRepository.class)
+                .on("findByHotelTypeId", args -> Optional.of(hotelType))
+                .build();
+        BookingRepository bookingRepository = RepositoryStubs.of(BookingRepository.class)
+                .on("findByBookingId", args -> Optional.of(booking))
+                .build();
+        RoomReviewStatsRepository roomReviewStatsRepository = RepositoryStubs.of(RoomReviewStatsRepository.class)
+                .on("findById", BenchmarkFixtures.lookup(roomStats))
+                .on("incrementCounts", args -> 1)
+                .build();
+        HotelReviewStatsRepository hotelReviewStatsRepository = RepositoryStubs.of(HotelReviewStatsRepository.class)
+                .on("incrementCounts", args -> 1)
+                .build();
+
+        RatingTrendService ratingTrendService = new RatingTrendService(
+                RepositoryStubs.of(RatingTrendBucketRepository.class).on("incrementCounts", args -> 1).build(),
+                roomRepository, hotelRepository, 90);
+
+        reviewService = new ReviewService(reviewRepository, roomRepository, hotelRepository, hotelTypeRepository,
+                bookingRepository, roomReviewStatsRepository, hotelReviewStatsRepository,
+                ratingTrendService,
+                BenchmarkFixtures.featureToggle(true),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                event -> { },
+                RepositoryStubs.of(PlatformTransactionManager.class).build());
+    }
+
+    @Benchmark
+    public ReviewResponse mapToResponse() {
+        return ReviewService.mapToResponse(review, booking);
+    }
+
+    @Benchmark
+    public Sort parseSort(SortInput input) {
+        return ReviewSortOrder.parse(input.sortBy).toSort();
+    }
+
+    @Benchmark
+    public Page<ReviewResponse> getReviewsByRoomId(SortInput input) {
+        return reviewService.getReviewsByRoomId(1L, 0, PAGE_SIZE, input.sortBy);
+    }
+
+    @Benchmark
+    public ReviewStatsResponse getReviewStatsFromAggregate() {
+        return reviewService.getReviewStats(1L);
+    }
+
+    @Benchmark
+    public ReviewStatsResponse getReviewStatsFromRatingCounts() {
+        return reviewService.getReviewStats(ROOMS_WITH_AGGREGATE + 1);
+    }
+
+    @Benchmark
+    public List<ReviewStatsResponse> getReviewStatsBatch() {
+        return reviewService.getReviewStats(batchRoomIds);
+    }
+
+    @Benchmark
+    public ReviewResponse createReview() {
+        return reviewService.createReview(request);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SortInput {
+
+        @Param({"", "createdAt,desc", "rating,asc"})
+        public String sortBy;
+    }
+
+    private static Page<ReviewResponse> page(List<ReviewResponse> content, Pageable pageable) {
+        return new PageImpl<>(content, pageable, 500);
+    }
+
+    private static List<RoomRatingCount> ratingCounts(long roomId) {
+        List<RoomRatingCount> rows = new ArrayList<>(RatingTally.MAX_RATING);
+        for (short rating = RatingTally.MIN_RATING; rating <= RatingTally.MAX_RATING; rating++) {
+            rows.add(new Row(roomId, rating, 10L * rating + roomId % 7, NOW));
+        }
+        return rows;
+    }
+
+    private record Target(Long roomId, Long roomHotelId, Long bookingId, Long bookingRoomId, String guestEmail,
+                          String guestName, Long hotelId, Long hotelTypeId, Boolean reviewEnabled)
+            implements ReviewTarget {
+
+        @Override
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        @Override
+        public Long getRoomHotelId() {
+            return roomHotelId;
+        }
+
+        @Override
+        public Long getBookingId() {
+            return bookingId;
+        }
+
+        @Override
+        public Long getBookingRoomId() {
+            return bookingRoomId;
+        }
+
+        @Override
+        public String getGuestEmail() {
+            return guestEmail;
+        }
+
+        @Override
+        public String getGuestName() {
+            return guestName;
+        }
+
+        @Override
+        public Long getHotelId() {
+            return hotelId;
+        }
+
+        @Override
+        public Long getHotelTypeId() {
+            return hotelTypeId;
+        }
+
+        @Override
+        public Boolean getReviewEnabled() {
+            return reviewEnabled;
+        }
+    }
+
+    private record Row(Long roomId, Short rating, Long reviewCount, LocalDateTime lastReviewAt)
+            implements RoomRatingCount {
+
+        @Override
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        @Override
+        public Short getRating() {
+            return rating;
+        }
+
+        @Override
+        public Long getReviewCount() {
+            return reviewCount;
+        }
+
+        @Override
+        public LocalDateTime getLastReviewAt() {
+            return lastReviewAt;
+        }
+    }
+}
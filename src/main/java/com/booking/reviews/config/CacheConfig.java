@@ -0,0 +1,17 @@
+package com.booking.reviews.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reference data caches. The cache manager itself is Spring Boot's Caffeine auto-configuration,
+ * sized and expired through {@code spring.cache.caffeine.spec}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String HOTELS = "hotels";
+    public static final String HOTEL_TYPES = "hotelTypes";
+    public static final String ROOMS = "rooms";
+}
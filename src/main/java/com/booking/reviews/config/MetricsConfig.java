@@ -0,0 +1,48 @@
+package com.booking.reviews.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Metric customisations on top of Spring Boot's auto-configuration, which already publishes
+ * {@code http.server.requests}, {@code spring.data.repository.invocations} and the HikariCP pool
+ * meters ({@code hikaricp.connections.acquire}, {@code .usage}, {@code .pending}, ...).
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    /**
+     * The endpoints the review page renders from; their latency is tracked against fixed SLO buckets.
+     */
+    static final Set<String> REVIEW_READ_URIS = Set.of(
+            "/api/reviews/room/{roomId}",
+            "/api/reviews/stats/{roomId}");
+
+    @Bean
+    public MeterFilter reviewReadSloFilter(
+            @Value("${reviews.metrics.read-slo-buckets:25ms,50ms,100ms,250ms,500ms,1s}") Duration[] buckets) {
+        double[] slos = Arrays.stream(buckets).mapToDouble(Duration::toNanos).sorted().toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || !REVIEW_READ_URIS.contains(id.getTag("uri"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(slos)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.booking.reviews.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the current thread's read-only transactions to the primary database, for reads that must
+ * see a write which may not have reached the replicas yet. Without read replicas every read runs
+ * on the primary anyway, and pinning has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Pins until the returned pin is closed. Pins nest: closing an inner pin keeps the outer one.
+     */
+    public static Pin pin() {
+        boolean outer = !isPinned();
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (outer) {
+                PINNED.remove();
+            }
+        };
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        try (Pin pin = pin()) {
+            return reads.get();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,91 @@
+package com.booking.reviews.config;
+
+import com.booking.reviews.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request executes and compares them with the endpoint's budget
+ * from {@link QueryBudgetProperties}. A request over budget is logged; in {@code FAIL} mode its
+ * response is also replaced by a {@code 500 QUERY_BUDGET_EXCEEDED}, which is why that mode buffers
+ * responses and is meant for tests and pre-production only. Writes have already committed by then.
+ * <p>
+ * The count is left in the {@link #STATEMENT_COUNT_ATTRIBUTE} request attribute for tests. It
+ * covers what Hibernate prepares and the plain JDBC that reports itself to {@link StatementCounter},
+ * which the aggregate row inserts do. Statements run on other threads, such as streamed exports,
+ * are not counted.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".statementCount";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final QueryBudgetProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean failMode = properties.mode() == QueryBudgetProperties.Mode.FAIL;
+        ContentCachingResponseWrapper buffered = failMode ? new ContentCachingResponseWrapper(response) : null;
+
+        long statements;
+        StatementCounter.start();
+        try {
+            chain.doFilter(request, failMode ? buffered : response);
+        } finally {
+            statements = StatementCounter.stop();
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+        }
+
+        try {
+            String endpoint = endpoint(request);
+            int budget = properties.budgetFor(endpoint);
+            if (statements > budget) {
+                logger.warn("{} executed {} SQL statements, budget is {}", endpoint, statements, budget);
+                if (failMode) {
+                    reject(buffered, endpoint, statements, budget);
+                }
+            }
+        } finally {
+            if (failMode) {
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void reject(ContentCachingResponseWrapper response, String endpoint, long statements, int budget)
+            throws IOException {
+        response.resetBuffer();
+        response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of("QUERY_BUDGET_EXCEEDED",
+                endpoint + " executed " + statements + " SQL statements, budget is " + budget));
+    }
+
+    /**
+     * {@code METHOD /mapped/{pattern}}, or the raw URI when no handler matched.
+     */
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
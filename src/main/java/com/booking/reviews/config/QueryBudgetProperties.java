@@ -0,0 +1,31 @@
+package com.booking.reviews.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Per-request SQL statement budgets.
+ *
+ * @param enabled       count statements per request and check them against the budgets
+ * @param mode          {@code WARN} logs requests over budget, {@code FAIL} also answers them with a 500
+ * @param defaultBudget budget for endpoints without their own entry
+ * @param endpoints     budgets keyed by {@code METHOD /path/{pattern}}, as mapped by the controllers
+ */
+@ConfigurationProperties(prefix = "query-budget")
+public record QueryBudgetProperties(boolean enabled, Mode mode, int defaultBudget, Map<String, Integer> endpoints) {
+
+    public enum Mode {
+        WARN,
+        FAIL
+    }
+
+    public QueryBudgetProperties {
+        mode = mode == null ? Mode.WARN : mode;
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,100 @@
+package com.booking.reviews.config;
+
+import com.booking.reviews.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers clients over their rate limit with {@code 429 TOO_MANY_REQUESTS} and a
+ * {@code Retry-After} header, before the request reaches a controller or the connection pool.
+ * <p>
+ * A client is the authenticated principal together with its IP address, so one misbehaving
+ * caller sharing credentials with others does not throttle them. Runs after the security chain,
+ * which has already answered unauthenticated API requests. Behind a proxy, the IP address is the
+ * proxy's unless {@code server.forward-headers-strategy} is set.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimiter.EndpointClass endpointClass = endpointClass(request);
+        if (endpointClass != null) {
+            String principal = principal();
+            long waitNanos = rateLimiter.tryAcquire(endpointClass, principal, request.getRemoteAddr());
+            if (waitNanos > 0) {
+                logger.debug("Rate limit exceeded for {} by {} from {}", endpointClass.tag(), principal,
+                        request.getRemoteAddr());
+                reject(response, endpointClass, waitNanos);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * The limit a request counts against, or null for requests that are not limited: health,
+     * actuator, API docs and CORS preflights.
+     */
+    static RateLimiter.EndpointClass endpointClass(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if ("OPTIONS".equals(method)) {
+            return null;
+        }
+        if (path.startsWith("/api/config/") || path.equals("/api/config")) {
+            return RateLimiter.EndpointClass.CONFIG;
+        }
+        if (path.startsWith("/api/reviews/") || path.equals("/api/reviews")) {
+            return "GET".equals(method) || "HEAD".equals(method)
+                    ? RateLimiter.EndpointClass.READS
+                    : RateLimiter.EndpointClass.WRITES;
+        }
+        return null;
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private void reject(HttpServletResponse response, RateLimiter.EndpointClass endpointClass, long waitNanos)
+            throws IOException {
+        // Rounded up, so a client that waits as told gets a token
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + second - 1) / second);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of("TOO_MANY_REQUESTS",
+                "Rate limit exceeded for " + endpointClass.tag() + "; retry after " + retryAfterSeconds + " seconds"));
+    }
+}
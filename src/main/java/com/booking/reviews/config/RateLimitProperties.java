@@ -0,0 +1,49 @@
+package com.booking.reviews.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-client request rate limits (see {@link RateLimitFilter}).
+ *
+ * @param enabled     throttle clients that exceed their limits
+ * @param maxClients  most buckets kept in memory; the least recently used are dropped beyond it
+ * @param idleTimeout how long a client's bucket is kept after its last request
+ * @param reads       limit for GET and HEAD under {@code /api/reviews}
+ * @param writes      limit for every other method under {@code /api/reviews}
+ * @param config      limit for {@code /api/config}
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(boolean enabled, long maxClients, Duration idleTimeout,
+                                  Limit reads, Limit writes, Limit config) {
+
+    public RateLimitProperties {
+        maxClients = maxClients > 0 ? maxClients : 100_000;
+        idleTimeout = idleTimeout == null ? Duration.ofMinutes(10) : idleTimeout;
+        reads = reads == null ? new Limit(100, 50) : reads;
+        writes = writes == null ? new Limit(20, 5) : writes;
+        config = config == null ? new Limit(20, 10) : config;
+    }
+
+    public Limit limitFor(RateLimiter.EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case READS -> reads;
+            case WRITES -> writes;
+            case CONFIG -> config;
+        };
+    }
+
+    /**
+     * @param burst     requests a client may send at once after being idle
+     * @param perSecond sustained requests per second
+     */
+    public record Limit(int burst, double perSecond) {
+
+        public Limit {
+            if (burst < 1 || perSecond <= 0) {
+                throw new IllegalArgumentException("Rate limits need a burst of at least 1 and a positive rate");
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.booking.reviews.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One token bucket per client and endpoint class, held in memory. Each instance limits the
+ * requests it receives itself, so a client spread over N instances gets up to N times its limit.
+ * <p>
+ * Buckets are bounded by {@code maxClients} and dropped after {@code idleTimeout} without
+ * requests. A dropped bucket comes back full, which is what it would have refilled to anyway
+ * as long as the idle timeout is longer than a bucket takes to refill.
+ */
+public class RateLimiter {
+
+    public enum EndpointClass {
+        READS("reads"),
+        WRITES("writes"),
+        CONFIG("config");
+
+        private final String tag;
+
+        EndpointClass(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final RateLimitProperties properties;
+    private final Ticker ticker;
+    private final Cache<ClientKey, TokenBucket> buckets;
+    private final Map<EndpointClass, Counter> throttled = new EnumMap<>(EndpointClass.class);
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(properties.idleTimeout())
+                .ticker(ticker)
+                .build();
+
+        Gauge.builder("reviews.rate_limit.clients", buckets, Cache::estimatedSize)
+                .description("Client token buckets held in memory")
+                .register(meterRegistry);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            throttled.put(endpointClass, Counter.builder("reviews.rate_limit.throttled")
+                    .description("Requests rejected because the client exceeded its rate limit")
+                    .tag("endpoint_class", endpointClass.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Takes a token from the client's bucket for the endpoint class.
+     *
+     * @param principal the authenticated user, or null
+     * @param address   the client IP address
+     * @return 0 when the request may proceed, otherwise nanoseconds until the bucket has a token again
+     */
+    public long tryAcquire(EndpointClass endpointClass, String principal, String address) {
+        ClientKey key = new ClientKey(endpointClass, principal, address);
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(properties.limitFor(k.endpointClass())));
+        long waitNanos = bucket.tryAcquire(ticker.read());
+        if (waitNanos > 0) {
+            throttled.get(endpointClass).increment();
+        }
+        return waitNanos;
+    }
+
+    long clients() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private record ClientKey(EndpointClass endpointClass, String principal, String address) {
+    }
+
+    /**
+     * Keeps only the time at which the bucket is full again, which encodes the token count: a
+     * bucket full at {@code t} holds {@code burst - (t - now) / interval} tokens. Taking a token
+     * pushes that time one interval further, with a compare-and-set instead of a lock.
+     */
+    static final class TokenBucket {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+        TokenBucket(RateLimitProperties.Limit limit) {
+            this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / limit.perSecond()));
+            this.burstNanos = intervalNanos * limit.burst();
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long waitNanos = next - now - burstNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
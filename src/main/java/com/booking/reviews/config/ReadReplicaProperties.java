@@ -0,0 +1,25 @@
+package com.booking.reviews.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica routing (see {@link ReplicaRoutingDataSource}).
+ *
+ * @param enabled              route read-only transactions to the replicas
+ * @param urls                 JDBC URLs of the replicas; they share the primary's credentials and pool settings
+ * @param connectionTimeout    how long a read waits for a replica connection before trying elsewhere
+ * @param readYourWritesWindow how long a client's reads stay on the primary after it sent a write
+ */
+@ConfigurationProperties(prefix = "read-replicas")
+public record ReadReplicaProperties(boolean enabled, List<String> urls, Duration connectionTimeout,
+                                    Duration readYourWritesWindow) {
+
+    public ReadReplicaProperties {
+        urls = urls == null ? List.of() : List.copyOf(urls);
+        connectionTimeout = connectionTimeout == null ? Duration.ofSeconds(2) : connectionTimeout;
+        readYourWritesWindow = readYourWritesWindow == null ? Duration.ofSeconds(5) : readYourWritesWindow;
+    }
+}
@@ -0,0 +1,90 @@
+package com.booking.reviews.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary for a short window after a successful write, so it sees
+ * its own review even while the replicas lag behind. The window travels in a cookie rather than in
+ * instance memory, so the client's next request may land on any instance.
+ * <p>
+ * Only clients that send cookies back get this. Browsers do; API clients that authenticate with
+ * basic auth on every request usually do not, and may read from a replica that has not caught up.
+ * The cookie is client-supplied, so a deadline further away than one window is ignored.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "reviews-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            // Buffered, so the cookie can still be added once the status is known
+            ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+            try (PrimaryReads.Pin pin = PrimaryReads.pin()) {
+                chain.doFilter(request, buffered);
+                // Rejected writes (400, 401, 409, 429 and so on) changed nothing; sendError has
+                // already committed the response
+                if (!buffered.isCommitted() && buffered.getStatus() >= 200 && buffered.getStatus() < 300) {
+                    buffered.addCookie(cookie(now + window.toMillis()));
+                }
+            } finally {
+                buffered.copyBodyToResponse();
+            }
+            return;
+        }
+
+        long pinnedUntil = pinnedUntil(request);
+        if (pinnedUntil > now && pinnedUntil <= now + window.toMillis()) {
+            try (PrimaryReads.Pin pin = PrimaryReads.pin()) {
+                chain.doFilter(request, response);
+            }
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private Cookie cookie(long pinnedUntil) {
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(pinnedUntil));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        return cookie;
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.booking.reviews.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} methods on Spring Boot's task scheduler. Its pool is sized by
+ * {@code spring.task.scheduling.pool.size} in application.yml, so the nightly jobs cannot delay
+ * the replica health check or the feature toggle refresh.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
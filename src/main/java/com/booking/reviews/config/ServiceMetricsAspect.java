@@ -0,0 +1,52 @@
+package com.booking.reviews.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public call into {@code ReviewService}, {@code ConfigService} and
+ * {@code FeatureToggleService} as {@code service.operation}, tagged with the service, the method
+ * and whether it returned normally. Failures also carry the exception's simple name, so
+ * "hotel not found" and "database down" can be told apart without a separate counter.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "service.operation";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.booking.reviews.service.ReviewService.*(..)) || "
+            + "execution(public * com.booking.reviews.service.ConfigService.*(..)) || "
+            + "execution(public * com.booking.reviews.service.FeatureToggleService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long started = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("Latency of service-layer operations")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(exception) ? "success" : "failure")
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.booking.reviews.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open.
+ * Statements sent over plain JDBC are added with {@link #add(int)} by the code that sends them.
+ * Unlike {@link org.hibernate.stat.Statistics}, which is shared by the whole session factory,
+ * the count belongs to one request, so concurrent requests do not inflate each other's numbers.
+ * Registered as Hibernate's {@link StatementInspector} by {@link QueryBudgetConfig}.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * Starts counting on the current thread, discarding any count left open.
+     */
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * @return statements counted since {@link #start()}, or 0 when no count is open
+     */
+    public static long current() {
+        long[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Adds statements that did not go through Hibernate, such as JDBC inserts and savepoints.
+     * Does nothing when no count is open.
+     */
+    public static void add(int statements) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0] += statements;
+        }
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return statements counted since {@link #start()}
+     */
+    public static long stop() {
+        long count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
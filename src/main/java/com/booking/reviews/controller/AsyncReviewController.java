@@ -0,0 +1,121 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.dto.AsyncReviewStatusResponse;
+import com.booking.reviews.dto.ErrorResponse;
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.exception.ResourceNotFoundException;
+import com.booking.reviews.service.AsyncReviewWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@Tag(name = "Reviews", description = "Review management APIs - Create, retrieve, and get statistics for reviews")
+@RestController
+@RequestMapping("/api/reviews/async")
+@SecurityRequirement(name = "basicAuth")
+@ConditionalOnProperty(name = "reviews.async-write.enabled", havingValue = "true")
+public class AsyncReviewController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncReviewController.class);
+
+    private final AsyncReviewWriter asyncReviewWriter;
+
+    public AsyncReviewController(AsyncReviewWriter asyncReviewWriter) {
+        this.asyncReviewWriter = asyncReviewWriter;
+    }
+
+    @Operation(
+            summary = "Submit a review for asynchronous creation",
+            description = """
+                    Accepts a review into the write queue and returns immediately with a tracking ID.
+                    Reviews are written in batches shortly afterwards with the same rules as
+                    `POST /api/reviews`; poll `GET /api/reviews/async/{trackingId}` for the outcome.
+                    
+                    Only available when `reviews.async-write.enabled` is true.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Review accepted",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AsyncReviewStatusResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Write queue is full; retry after the number of seconds in Retry-After",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Instance is shutting down; retry after the number of seconds in Retry-After",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping
+    public ResponseEntity<AsyncReviewStatusResponse> submitReview(@Valid @RequestBody ReviewRequest request) {
+        logger.info("POST /api/reviews/async - Queueing review for roomId: {}", request.getRoomId());
+        AsyncReviewStatusResponse response = asyncReviewWriter.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reviews/async/" + response.getTrackingId()))
+                .body(response);
+    }
+
+    @Operation(summary = "Get the status of an asynchronously submitted review")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Status retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AsyncReviewStatusResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown or expired tracking ID",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<AsyncReviewStatusResponse> getStatus(
+            @Parameter(description = "Tracking ID", required = true)
+            @PathVariable String trackingId) {
+        logger.info("GET /api/reviews/async/{}", trackingId);
+        AsyncReviewStatusResponse response = asyncReviewWriter.getStatus(trackingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tracking ID not found: " + trackingId));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -19,6 +19,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+import java.util.Set;
+
 @Tag(name = "Configuration", description = "Review feature configuration APIs")
 @RestController
 @RequestMapping("/api/config")
@@ -27,6 +30,8 @@ public class ConfigController {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigController.class);
 
+    static final int MAX_BATCH_SIZE = 100;
+
     private final ConfigService configService;
 
     public ConfigController(ConfigService configService) {
@@ -157,6 +162,70 @@ public class ConfigController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(
+            summary = "Get review configuration for many hotels",
+            description = """
+                    Batch variant of `GET /api/config/reviews` for search result pages. Resolves all hotels
+                    with a single database query and a single feature toggle read.
+                    
+                    - `hotelIds`: comma-separated hotel IDs (at most 100)
+                    - Returns a map of hotel ID to configuration, in request order
+                    - Unknown hotels and hotel types get `scope: NOT_FOUND` instead of failing the whole batch
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Configurations retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Success",
+                                    value = """
+                                            {
+                                                "1": {
+                                                    "enabled": true,
+                                                    "scope": "ENABLED",
+                                                    "reason": "Reviews are enabled"
+                                                },
+                                                "999": {
+                                                    "enabled": false,
+                                                    "scope": "NOT_FOUND",
+                                                    "reason": "Hotel not found: 999"
+                                                }
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid hotelIds parameter",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/reviews/batch")
+    public ResponseEntity<?> getReviewConfigs(
+            @Parameter(description = "Comma-separated hotel IDs", example = "1,2,3", required = true)
+            @RequestParam(required = true, name = "hotelIds") String hotelIdsParam) {
+        logger.info("GET /api/config/reviews/batch?hotelIds={}", hotelIdsParam);
+
+        Set<Long> hotelIds;
+        try {
+            hotelIds = IdListParameter.parse(hotelIdsParam, "hotelIds", MAX_BATCH_SIZE);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid hotelIds: {} ({})", hotelIdsParam, e.getMessage());
+            ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        Map<Long, ConfigResponse> response = configService.getReviewConfigs(hotelIds);
+        return ResponseEntity.ok(response);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
         logger.warn("Missing required parameter: {}", ex.getParameterName());
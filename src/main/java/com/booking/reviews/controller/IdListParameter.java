@@ -0,0 +1,43 @@
+package com.booking.reviews.controller;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parses comma-separated ID lists used by the batch endpoints. Duplicates are dropped and
+ * request order is preserved.
+ */
+final class IdListParameter {
+
+    private IdListParameter() {
+    }
+
+    /**
+     * @throws IllegalArgumentException with a client-facing message when the list is malformed,
+     *                                  empty or longer than {@code maxSize}
+     */
+    static Set<Long> parse(String value, String name, int maxSize) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String part : value.split(",")) {
+            if (part.trim().isEmpty()) {
+                continue;
+            }
+            long id;
+            try {
+                id = Long.parseLong(part.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + " must be valid numbers");
+            }
+            if (id <= 0) {
+                throw new IllegalArgumentException(name + " must be positive numbers");
+            }
+            ids.add(id);
+        }
+
+        if (ids.isEmpty() || ids.size() > maxSize) {
+            throw new IllegalArgumentException(
+                    String.format("%s must contain between 1 and %d IDs", name, maxSize));
+        }
+        return ids;
+    }
+}
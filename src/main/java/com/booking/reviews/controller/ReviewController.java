@@ -1,12 +1,28 @@
 package com.booking.reviews.controller;
 
+import com.booking.reviews.dto.BulkReviewRequest;
+import com.booking.reviews.dto.BulkReviewResponse;
 import com.booking.reviews.dto.ErrorResponse;
+import com.booking.reviews.dto.RatingRollupResponse;
+import com.booking.reviews.dto.RatingTrendResponse;
+import com.booking.reviews.dto.ReviewCursorPageResponse;
 import com.booking.reviews.dto.ReviewRequest;
 import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.dto.ReviewSearchResponse;
 import com.booking.reviews.dto.ReviewStatsResponse;
+import com.booking.reviews.dto.RoomLeaderboardResponse;
+import com.booking.reviews.entity.TrendGranularity;
+import com.booking.reviews.repository.ReviewSearchCriteria;
+import com.booking.reviews.service.CachedReviewPage;
+import com.booking.reviews.service.RatingTrendService;
+import com.booking.reviews.service.ReviewExportFormat;
+import com.booking.reviews.service.ReviewExportService;
+import com.booking.reviews.service.ReviewPageCache;
 import com.booking.reviews.service.ReviewService;
+import com.booking.reviews.service.RoomLeaderboardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,14 +30,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 @Tag(name = "Reviews", description = "Review management APIs - Create, retrieve, and get statistics for reviews")
 @RestController
 @RequestMapping("/api/reviews")
@@ -30,10 +56,26 @@ public class ReviewController {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewController.class);
 
+    static final int MAX_STATS_BATCH_SIZE = 100;
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    static final int MAX_TREND_POINTS = 400;
+
     private final ReviewService reviewService;
+    private final ReviewExportService reviewExportService;
+    private final RoomLeaderboardService roomLeaderboardService;
+    private final RatingTrendService ratingTrendService;
+    private final ReviewPageCache reviewPageCache;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ReviewExportService reviewExportService,
+                            RoomLeaderboardService roomLeaderboardService, RatingTrendService ratingTrendService,
+                            ReviewPageCache reviewPageCache) {
         this.reviewService = reviewService;
+        this.reviewExportService = reviewExportService;
+        this.roomLeaderboardService = roomLeaderboardService;
+        this.ratingTrendService = ratingTrendService;
+        this.reviewPageCache = reviewPageCache;
     }
 
     @Operation(
@@ -161,6 +203,51 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Import reviews in bulk",
+            description = """
+                    Creates up to 1000 reviews in one request, e.g. for reviews collected offline.
+                    
+                    - Each item follows the same rules as `POST /api/reviews`
+                    - Invalid items are reported individually and do not stop the others
+                    - `results` lists the outcome of every item in request order, with the created
+                      review or the error code and message `POST /api/reviews` would have returned
+                    - If reviews are disabled globally, the whole batch is rejected with 403
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see per-item results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkReviewResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Reviews are disabled globally",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkReviewResponse> createReviews(@Valid @RequestBody BulkReviewRequest request) {
+        logger.info("POST /api/reviews/bulk - Importing {} reviews", request.getReviews().size());
+        BulkReviewResponse response = reviewService.createReviews(request.getReviews());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Get reviews by room ID",
             description = """
@@ -172,6 +259,16 @@ public class ReviewController {
                     - sortBy: Sort field and direction (format: "field,direction", e.g., "createdAt,desc" or "rating,asc")
                     
                     **Default Sort:** Created date descending (newest first)
+                    
+                    **Cursor Mode:**
+                    - Pass `cursor` (empty for the first page) to switch to keyset pagination
+                    - Returns `content`, `hasNext` and `nextCursor` instead of a page with totals
+                    - Pass `nextCursor` back as `cursor` to fetch the following page; `page` is ignored
+                    - `size` must be between 1 and 100
+                    - Latency stays flat on deep pages and no total count is computed
+                    
+                    **Caching:** The first pages are served from pre-serialized responses (gzipped when
+                    the client sends `Accept-Encoding: gzip`) until a review is written for the room.
                     """
     )
     @ApiResponses(value = {
@@ -180,7 +277,15 @@ public class ReviewController {
                     description = "Reviews retrieved successfully",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = Page.class)
+                            schema = @Schema(oneOf = {Page.class, ReviewCursorPageResponse.class})
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
                     )
             ),
             @ApiResponse(
@@ -193,7 +298,7 @@ public class ReviewController {
             )
     })
     @GetMapping("/room/{roomId}")
-    public ResponseEntity<Page<ReviewResponse>> getReviewsByRoomId(
+    public ResponseEntity<?> getReviewsByRoomId(
             @Parameter(description = "Room ID", example = "1", required = true)
             @PathVariable Long roomId,
             @Parameter(description = "Page number (0-indexed)", example = "0")
@@ -201,8 +306,27 @@ public class ReviewController {
             @Parameter(description = "Page size", example = "10")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field and direction (format: field,direction)", example = "createdAt,desc")
-            @RequestParam(required = false) String sortBy) {
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Keyset cursor; pass empty for the first page in cursor mode")
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (cursor != null) {
+            logger.info("GET /api/reviews/room/{} - cursor: {}, size: {}, sortBy: {}", roomId, cursor, size, sortBy);
+            if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+                logger.warn("Invalid cursor page size: {}", size);
+                ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR",
+                        "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+            ReviewCursorPageResponse response = reviewService.getReviewsByRoomIdAfter(roomId, cursor, size, sortBy);
+            return ResponseEntity.ok(response);
+        }
+
         logger.info("GET /api/reviews/room/{} - page: {}, size: {}, sortBy: {}", roomId, page, size, sortBy);
+        if (reviewPageCache.isCacheable(page, size)) {
+            CachedReviewPage cached = reviewPageCache.getReviewsByRoomId(roomId, page, size, sortBy);
+            return cachedPageResponse(cached, acceptEncoding);
+        }
         Page<ReviewResponse> response = reviewService.getReviewsByRoomId(roomId, page, size, sortBy);
         return ResponseEntity.ok(response);
     }
@@ -261,5 +385,536 @@ public class ReviewController {
         ReviewStatsResponse response = reviewService.getReviewStats(roomId);
         return ResponseEntity.ok(response);
     }
-}
 
+    @Operation(
+            summary = "Get review statistics for a hotel",
+            description = """
+                    Returns rating statistics rolled up across all rooms of a hotel. Served from a
+                    precomputed aggregate that is updated with every new review.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RatingRollupResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/stats/hotel/{hotelId}")
+    public ResponseEntity<RatingRollupResponse> getHotelReviewStats(
+            @Parameter(description = "Hotel ID", example = "1", required = true)
+            @PathVariable Long hotelId) {
+        logger.info("GET /api/reviews/stats/hotel/{}", hotelId);
+        RatingRollupResponse response = reviewService.getHotelReviewStats(hotelId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get review statistics for a hotel type",
+            description = """
+                    Returns rating statistics rolled up across all hotels of a hotel type, summed from
+                    the per-hotel aggregates in a single query.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RatingRollupResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel type not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/stats/hotel-type/{hotelTypeId}")
+    public ResponseEntity<RatingRollupResponse> getHotelTypeReviewStats(
+            @Parameter(description = "Hotel type ID", example = "1", required = true)
+            @PathVariable Long hotelTypeId) {
+        logger.info("GET /api/reviews/stats/hotel-type/{}", hotelTypeId);
+        RatingRollupResponse response = reviewService.getHotelTypeReviewStats(hotelTypeId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get the best-rated rooms of a hotel",
+            description = """
+                    Returns the rooms of the hotel with the highest average rating, best first.
+                    Ties go to the room with more reviews. Rooms with fewer than `minReviews` reviews
+                    are not ranked.
+                    
+                    Served from an in-memory ranking that is updated on every review write, so the
+                    cost depends on `limit`, not on the number of rooms.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Leaderboard retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RoomLeaderboardResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/leaderboard/hotel/{hotelId}")
+    public ResponseEntity<?> getHotelLeaderboard(
+            @Parameter(description = "Hotel ID", example = "1", required = true)
+            @PathVariable Long hotelId,
+            @Parameter(description = "Number of rooms to return", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.info("GET /api/reviews/leaderboard/hotel/{} - limit: {}", hotelId, limit);
+
+        ResponseEntity<ErrorResponse> invalid = validateLeaderboardLimit(limit);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        RoomLeaderboardResponse response = roomLeaderboardService.getHotelLeaderboard(hotelId, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get the best-rated rooms of a hotel type",
+            description = """
+                    Returns the rooms of the hotel type with the highest average rating, best first.
+                    Ties go to the room with more reviews. Rooms with fewer than `minReviews` reviews
+                    are not ranked.
+                    
+                    Served from an in-memory ranking that is updated on every review write, so the
+                    cost depends on `limit`, not on the number of rooms.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Leaderboard retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RoomLeaderboardResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel type not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/leaderboard/hotel-type/{hotelTypeId}")
+    public ResponseEntity<?> getHotelTypeLeaderboard(
+            @Parameter(description = "Hotel type ID", example = "1", required = true)
+            @PathVariable Long hotelTypeId,
+            @Parameter(description = "Number of rooms to return", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.info("GET /api/reviews/leaderboard/hotel-type/{} - limit: {}", hotelTypeId, limit);
+
+        ResponseEntity<ErrorResponse> invalid = validateLeaderboardLimit(limit);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        RoomLeaderboardResponse response = roomLeaderboardService.getHotelTypeLeaderboard(hotelTypeId, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get the rating trend of a room",
+            description = """
+                    Returns one point per day, week (starting Monday) or month overlapping `from` to `to`,
+                    oldest first. Buckets without reviews are included with a count of zero.
+                    
+                    Served from pre-aggregated buckets only, never from the reviews table. Daily points
+                    are available for the last `reviews.trends.day-retention-days` days; older days are
+                    compacted into weeks and months.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trend retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RatingTrendResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid granularity or date range",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Room not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/trends/room/{roomId}")
+    public ResponseEntity<?> getRoomRatingTrend(
+            @Parameter(description = "Room ID", example = "1", required = true)
+            @PathVariable Long roomId,
+            @Parameter(description = "Bucket width: day, week or month", example = "week")
+            @RequestParam(required = false) String granularity,
+            @Parameter(description = "First date of the trend", example = "2025-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the trend", example = "2025-03-31", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("GET /api/reviews/trends/room/{} - granularity: {}, from: {}, to: {}", roomId, granularity, from, to);
+
+        TrendGranularity trendGranularity = TrendGranularity.parse(granularity);
+        ResponseEntity<ErrorResponse> invalid = validateTrendRequest(trendGranularity, from, to);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        RatingTrendResponse response = ratingTrendService.getRoomTrend(roomId, trendGranularity, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get the rating trend of a hotel",
+            description = """
+                    Returns one point per day, week (starting Monday) or month overlapping `from` to `to`,
+                    oldest first. Buckets without reviews are included with a count of zero.
+                    
+                    Served from pre-aggregated buckets only, never from the reviews table. Daily points
+                    are available for the last `reviews.trends.day-retention-days` days; older days are
+                    compacted into weeks and months.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trend retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RatingTrendResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid granularity or date range",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/trends/hotel/{hotelId}")
+    public ResponseEntity<?> getHotelRatingTrend(
+            @Parameter(description = "Hotel ID", example = "1", required = true)
+            @PathVariable Long hotelId,
+            @Parameter(description = "Bucket width: day, week or month", example = "week")
+            @RequestParam(required = false) String granularity,
+            @Parameter(description = "First date of the trend", example = "2025-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the trend", example = "2025-03-31", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("GET /api/reviews/trends/hotel/{} - granularity: {}, from: {}, to: {}", hotelId, granularity, from, to);
+
+        TrendGranularity trendGranularity = TrendGranularity.parse(granularity);
+        ResponseEntity<ErrorResponse> invalid = validateTrendRequest(trendGranularity, from, to);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        RatingTrendResponse response = ratingTrendService.getHotelTrend(hotelId, trendGranularity, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<byte[]> cachedPageResponse(CachedReviewPage page, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (page.hasGzip() && acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.gzip());
+        }
+        return response.body(page.json());
+    }
+
+    private ResponseEntity<ErrorResponse> validateTrendRequest(TrendGranularity granularity, LocalDate from, LocalDate to) {
+        String message = null;
+        if (granularity == null) {
+            message = "granularity must be one of: day, week, month";
+        } else if (to.isBefore(from)) {
+            message = "to must not be before from";
+        } else if (granularity.bucketsBetween(from, to) > MAX_TREND_POINTS) {
+            message = "A trend can have at most " + MAX_TREND_POINTS + " points; use a coarser granularity";
+        } else if (granularity == TrendGranularity.DAY
+                && from.isBefore(LocalDate.now().minusDays(ratingTrendService.getDayRetentionDays()))) {
+            message = "Daily trends cover the last " + ratingTrendService.getDayRetentionDays()
+                    + " days; use week or month for older dates";
+        }
+        if (message != null) {
+            logger.warn("Invalid trend request: {}", message);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.of("VALIDATION_ERROR", message));
+        }
+        return null;
+    }
+
+    private ResponseEntity<ErrorResponse> validateLeaderboardLimit(int limit) {
+        int maxSize = roomLeaderboardService.getMaxSize();
+        if (limit < 1 || limit > maxSize) {
+            logger.warn("Invalid leaderboard limit: {}", limit);
+            ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR", "limit must be between 1 and " + maxSize);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        return null;
+    }
+
+    @Operation(
+            summary = "Get review statistics for many rooms",
+            description = """
+                    Batch variant of `GET /api/reviews/stats/{roomId}` for listing pages. All rooms are
+                    computed from a single `GROUP BY room_id, rating` query.
+                    
+                    - `roomIds`: comma-separated room IDs (at most 100)
+                    - Returns one entry per existing room, in request order
+                    - Unknown rooms are left out of the response
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ReviewStatsResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid roomIds parameter",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<?> getReviewStatsForRooms(
+            @Parameter(description = "Comma-separated room IDs", example = "1,2,3", required = true)
+            @RequestParam(name = "roomIds") String roomIdsParam) {
+        logger.info("GET /api/reviews/stats?roomIds={}", roomIdsParam);
+
+        Set<Long> roomIds;
+        try {
+            roomIds = IdListParameter.parse(roomIdsParam, "roomIds", MAX_STATS_BATCH_SIZE);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid roomIds: {} ({})", roomIdsParam, e.getMessage());
+            ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        List<ReviewStatsResponse> response = reviewService.getReviewStats(roomIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Search review comments",
+            description = """
+                    Full-text search over review comments, best match first.
+                    
+                    **Query syntax:** words must all appear (stemmed, so `rooms` matches `room`),
+                    `"quoted phrases"` must appear in order, `or` between terms matches either,
+                    and `-word` excludes.
+                    
+                    **Filters (all optional):**
+                    - `hotelId`, `roomId`, `rating`
+                    - `from`, `to`: creation date range (ISO dates, both inclusive)
+                    
+                    Pages are requested with `page` and `size` (at most 100); `hasNext` tells
+                    whether another page follows. No total count is computed.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ReviewSearchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing query or invalid filter",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<?> searchReviews(
+            @Parameter(description = "Search query", example = "\"AC broken\" noise", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Hotel ID", example = "1")
+            @RequestParam(required = false) Long hotelId,
+            @Parameter(description = "Room ID", example = "1")
+            @RequestParam(required = false) Long roomId,
+            @Parameter(description = "Rating from 1 to 5", example = "2")
+            @RequestParam(required = false) Short rating,
+            @Parameter(description = "First creation date to include", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last creation date to include", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("GET /api/reviews/search - q: {}, hotelId: {}, roomId: {}, rating: {}, from: {}, to: {}, page: {}, size: {}",
+                q, hotelId, roomId, rating, from, to, page, size);
+
+        String error = null;
+        if (q.isBlank() || q.length() > MAX_SEARCH_QUERY_LENGTH) {
+            error = "q must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters";
+        } else if (rating != null && (rating < 1 || rating > 5)) {
+            error = "rating must be between 1 and 5";
+        } else if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            error = "page must not be negative and size must be between 1 and " + MAX_SEARCH_PAGE_SIZE;
+        } else if (from != null && to != null && to.isBefore(from)) {
+            error = "to must not be before from";
+        }
+        if (error != null) {
+            logger.warn("Invalid search request: {}", error);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.of("VALIDATION_ERROR", error));
+        }
+
+        ReviewSearchCriteria criteria = new ReviewSearchCriteria(q.trim(), hotelId, roomId, rating,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null);
+        ReviewSearchResponse response = reviewService.searchReviews(criteria, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Export reviews",
+            description = """
+                    Streams all matching reviews as NDJSON (one JSON object per line) or CSV, ordered by
+                    review ID. Rows are read from a database cursor and written as they arrive, so
+                    exports of any size run in constant memory.
+                    
+                    **Filters (all optional):**
+                    - `hotelId`, `roomId`
+                    - `from`, `to`: creation date range (ISO dates, both inclusive)
+                    - `format`: `ndjson` (default) or `csv`
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export stream",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter or format",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<?> exportReviews(
+            @Parameter(description = "Hotel ID", example = "1")
+            @RequestParam(required = false) Long hotelId,
+            @Parameter(description = "Room ID", example = "1")
+            @RequestParam(required = false) Long roomId,
+            @Parameter(description = "First creation date to include", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last creation date to include", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) throws IOException {
+        logger.info("GET /api/reviews/export - hotelId: {}, roomId: {}, from: {}, to: {}, format: {}",
+                hotelId, roomId, from, to, format);
+
+        ReviewExportFormat exportFormat = ReviewExportFormat.parse(format);
+        if (exportFormat == null) {
+            logger.warn("Invalid export format: {}", format);
+            ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR", "format must be one of: ndjson, csv");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        if (from != null && to != null && to.isBefore(from)) {
+            logger.warn("Invalid export date range: {} - {}", from, to);
+            ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR", "to must not be before from");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reviews." + exportFormat.getFileExtension() + "\"");
+
+        reviewExportService.export(hotelId, roomId,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                exportFormat, response.getOutputStream());
+        // Body already written to the servlet response
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Status of a review submitted through the asynchronous write path")
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncReviewStatusResponse {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    @Schema(description = "Tracking ID returned when the review was accepted", example = "3f2c9a4e-8d7b-4a51-9c63-0e5f1b2a7d90")
+    private String trackingId;
+
+    @Schema(description = "Processing status", example = "CREATED", allowableValues = {"QUEUED", "CREATED", "FAILED"})
+    private String status;
+
+    @Schema(description = "Error code for failed reviews, same codes as POST /api/reviews", example = "DUPLICATE_REVIEW")
+    private String code;
+
+    @Schema(description = "Error message for failed reviews", example = "A review already exists for booking: 1")
+    private String message;
+
+    @Schema(description = "Created review, once written")
+    private ReviewResponse review;
+
+    @Schema(description = "When the review was accepted", example = "2025-12-25T17:20:00")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "When the review was written or rejected", example = "2025-12-25T17:20:01")
+    private LocalDateTime completedAt;
+
+    public static AsyncReviewStatusResponse queued(String trackingId) {
+        return AsyncReviewStatusResponse.builder()
+                .trackingId(trackingId)
+                .status(QUEUED)
+                .submittedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public AsyncReviewStatusResponse completed(BulkReviewItemResult result) {
+        boolean created = BulkReviewItemResult.CREATED.equals(result.getStatus());
+        return toBuilder()
+                .status(created ? CREATED : FAILED)
+                .code(result.getCode())
+                .message(result.getMessage())
+                .review(result.getReview())
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public AsyncReviewStatusResponse failed(String code, String message) {
+        return toBuilder()
+                .status(FAILED)
+                .code(code)
+                .message(message)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+}
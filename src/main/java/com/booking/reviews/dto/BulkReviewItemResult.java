@@ -0,0 +1,50 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Outcome of a single item in a bulk review import")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReviewItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private Integer index;
+
+    @Schema(description = "Item status", example = "CREATED", allowableValues = {"CREATED", "FAILED"})
+    private String status;
+
+    @Schema(description = "Error code for failed items, same codes as POST /api/reviews", example = "DUPLICATE_REVIEW")
+    private String code;
+
+    @Schema(description = "Error message for failed items", example = "A review already exists for booking: 1")
+    private String message;
+
+    @Schema(description = "Created review, for successful items")
+    private ReviewResponse review;
+
+    public static BulkReviewItemResult created(int index, ReviewResponse review) {
+        return BulkReviewItemResult.builder()
+                .index(index)
+                .status(CREATED)
+                .review(review)
+                .build();
+    }
+
+    public static BulkReviewItemResult failed(int index, String code, String message) {
+        return BulkReviewItemResult.builder()
+                .index(index)
+                .status(FAILED)
+                .code(code)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Batch of reviews to import. Items are validated individually so one bad item does not reject the batch.")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReviewRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @Schema(description = "Reviews to create (at most 1000)", required = true)
+    @NotEmpty(message = "Reviews are required")
+    @Size(max = MAX_ITEMS, message = "At most 1000 reviews can be imported per request")
+    private List<ReviewRequest> reviews;
+}
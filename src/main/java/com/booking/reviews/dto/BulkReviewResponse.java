@@ -0,0 +1,29 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Result of a bulk review import")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReviewResponse {
+
+    @Schema(description = "Number of items in the request", example = "3")
+    private Integer total;
+
+    @Schema(description = "Number of reviews created", example = "2")
+    private Integer succeeded;
+
+    @Schema(description = "Number of items rejected", example = "1")
+    private Integer failed;
+
+    @Schema(description = "Per-item outcome, in request order")
+    private List<BulkReviewItemResult> results;
+}
@@ -16,9 +16,9 @@ public class ConfigResponse {
     @Schema(description = "Whether reviews are enabled for this hotel", example = "true")
     private Boolean enabled;
 
-    @Schema(description = "Scope of the configuration (GLOBAL, HOTEL_TYPE, or ENABLED)", 
+    @Schema(description = "Scope of the configuration (GLOBAL, HOTEL_TYPE, or ENABLED; NOT_FOUND in batch responses)", 
             example = "ENABLED", 
-            allowableValues = {"GLOBAL", "HOTEL_TYPE", "ENABLED"})
+            allowableValues = {"GLOBAL", "HOTEL_TYPE", "ENABLED", "NOT_FOUND"})
     private String scope;
 
     @Schema(description = "Reason for the current status", example = "Reviews are enabled")
@@ -0,0 +1,35 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Schema(description = "Review statistics rolled up across all rooms of a hotel or hotel type")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingRollupResponse {
+
+    public static final String HOTEL = "HOTEL";
+    public static final String HOTEL_TYPE = "HOTEL_TYPE";
+
+    @Schema(description = "Rollup level", example = "HOTEL", allowableValues = {"HOTEL", "HOTEL_TYPE"})
+    private String level;
+
+    @Schema(description = "Hotel ID or hotel type ID, depending on the level", example = "1")
+    private Long id;
+
+    @Schema(description = "Total number of reviews across all rooms", example = "120")
+    private Long totalReviews;
+
+    @Schema(description = "Average rating (rounded to 2 decimal places)", example = "4.25")
+    private Double averageRating;
+
+    @Schema(description = "Rating distribution map (rating -> count)", example = "{\"1\": 2, \"2\": 5, \"3\": 13, \"4\": 40, \"5\": 60}")
+    private Map<Short, Long> ratingDistribution;
+}
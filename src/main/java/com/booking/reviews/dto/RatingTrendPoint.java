@@ -0,0 +1,30 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Schema(description = "Review statistics of one day, week or month")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingTrendPoint {
+
+    @Schema(description = "First day of the bucket", example = "2025-06-02")
+    private LocalDate bucketStart;
+
+    @Schema(description = "Number of reviews created in the bucket", example = "12")
+    private Long totalReviews;
+
+    @Schema(description = "Average rating (rounded to 2 decimal places), null when there are no reviews", example = "4.25")
+    private Double averageRating;
+
+    @Schema(description = "Rating distribution map (rating -> count)", example = "{\"1\": 0, \"2\": 1, \"3\": 1, \"4\": 4, \"5\": 6}")
+    private Map<Short, Long> ratingDistribution;
+}
@@ -0,0 +1,36 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Rating trend of a room or hotel, one point per day, week or month")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingTrendResponse {
+
+    @Schema(description = "Trend level", example = "ROOM", allowableValues = {"ROOM", "HOTEL"})
+    private String level;
+
+    @Schema(description = "Room ID or hotel ID, depending on the level", example = "1")
+    private Long id;
+
+    @Schema(description = "Bucket width", example = "WEEK", allowableValues = {"DAY", "WEEK", "MONTH"})
+    private String granularity;
+
+    @Schema(description = "First date requested", example = "2025-06-01")
+    private LocalDate from;
+
+    @Schema(description = "Last date requested", example = "2025-06-30")
+    private LocalDate to;
+
+    @Schema(description = "One point per bucket overlapping the range, oldest first, including empty buckets")
+    private List<RatingTrendPoint> points;
+}
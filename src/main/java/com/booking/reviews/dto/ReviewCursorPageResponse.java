@@ -0,0 +1,30 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "A page of reviews in cursor (keyset) pagination mode")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCursorPageResponse {
+
+    @Schema(description = "Reviews on this page")
+    private List<ReviewResponse> content;
+
+    @Schema(description = "Requested page size", example = "10")
+    private Integer size;
+
+    @Schema(description = "Whether more reviews follow this page", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "Cursor to pass to fetch the next page, null on the last page",
+            example = "djF8Q1JFQVRFRF9BVF9ERVNDfDV8MjAyNS0xMi0yNVQxNzoyMHw0Mg")
+    private String nextCursor;
+}
@@ -0,0 +1,48 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "A review matching a comment search")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSearchHit {
+
+    @Schema(description = "Unique review ID", example = "1")
+    private Long reviewId;
+
+    @Schema(description = "Room ID", example = "1")
+    private Long roomId;
+
+    @Schema(description = "Hotel ID", example = "1")
+    private Long hotelId;
+
+    @Schema(description = "Booking ID", example = "1")
+    private Long bookingId;
+
+    @Schema(description = "Rating from 1 to 5", example = "2", minimum = "1", maximum = "5")
+    private Short rating;
+
+    @Schema(description = "Review comment", example = "Lovely staff but the AC was broken all week.")
+    private String comment;
+
+    @Schema(description = "Reviewer email address", example = "guest@example.com")
+    private String reviewerEmail;
+
+    @Schema(description = "Reviewer name", example = "John Doe")
+    private String reviewerName;
+
+    @Schema(description = "Review creation timestamp", example = "2025-12-25T17:20:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Relevance to the query, higher is better; 0 when the database has no full-text index",
+            example = "0.35")
+    private Double rank;
+}
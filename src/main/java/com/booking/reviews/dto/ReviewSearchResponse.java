@@ -0,0 +1,32 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "A page of review comment search results, best match first")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSearchResponse {
+
+    @Schema(description = "The search query", example = "\"AC broken\" noise")
+    private String query;
+
+    @Schema(description = "Matching reviews on this page")
+    private List<ReviewSearchHit> results;
+
+    @Schema(description = "Page number (0-indexed)", example = "0")
+    private Integer page;
+
+    @Schema(description = "Requested page size", example = "20")
+    private Integer size;
+
+    @Schema(description = "Whether more results follow this page", example = "true")
+    private Boolean hasNext;
+}
@@ -0,0 +1,30 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "A room's position on a leaderboard")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomLeaderboardEntry {
+
+    @Schema(description = "Position on the leaderboard, starting at 1", example = "1")
+    private Integer rank;
+
+    @Schema(description = "Room ID", example = "12")
+    private Long roomId;
+
+    @Schema(description = "Hotel ID", example = "1")
+    private Long hotelId;
+
+    @Schema(description = "Average rating (rounded to 2 decimal places)", example = "4.85")
+    private Double averageRating;
+
+    @Schema(description = "Number of reviews", example = "40")
+    private Long totalReviews;
+}
@@ -0,0 +1,29 @@
+package com.booking.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Best-rated rooms of a hotel or hotel type")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomLeaderboardResponse {
+
+    @Schema(description = "Leaderboard level", example = "HOTEL", allowableValues = {"HOTEL", "HOTEL_TYPE"})
+    private String level;
+
+    @Schema(description = "Hotel ID or hotel type ID, depending on the level", example = "1")
+    private Long id;
+
+    @Schema(description = "Reviews a room needs before it is ranked", example = "5")
+    private Long minReviews;
+
+    @Schema(description = "Rooms, best first")
+    private List<RoomLeaderboardEntry> rooms;
+}
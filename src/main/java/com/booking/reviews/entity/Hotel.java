@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ReferenceDataListener.class)
 @Table(name = "hotels")
 @Data
 @Builder
@@ -0,0 +1,31 @@
+package com.booking.reviews.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Per-hotel rollup of all room aggregates. Updated alongside {@link RoomReviewStats} on every
+ * review insert; hotel-type summaries are summed from these rows on read.
+ */
+@Entity
+@Table(name = "hotel_review_stats", indexes = {
+    @Index(name = "idx_hotel_review_stats_hotel_type_id", columnList = "hotel_type_id")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+public class HotelReviewStats extends ReviewStatsAggregate {
+
+    @Id
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    @Column(name = "hotel_type_id", nullable = false)
+    private Long hotelTypeId;
+}
@@ -0,0 +1,87 @@
+package com.booking.reviews.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * Rating counters of one room or hotel over one day, week or month. Day buckets are incremented
+ * in the same transaction as every review insert; once they are older than the day retention
+ * they are folded into week and month buckets and deleted.
+ */
+@Entity
+@Table(name = "rating_trend_buckets", indexes = {
+    @Index(name = "idx_rating_trend_bucket_granularity_start", columnList = "granularity, bucket_start")
+})
+@IdClass(RatingTrendBucket.Key.class)
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+public class RatingTrendBucket extends ReviewStatsAggregate implements Persistable<RatingTrendBucket.Key> {
+
+    public static final String ROOM = "ROOM";
+    public static final String HOTEL = "HOTEL";
+
+    @Id
+    @Column(name = "scope", length = 8)
+    private String scope;
+
+    @Id
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 8)
+    private TrendGranularity granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDate bucketStart;
+
+    @Override
+    public Key getId() {
+        return new Key(scope, scopeId, granularity, bucketStart);
+    }
+
+    /**
+     * New until first persisted, so saving a new bucket inserts it without selecting the assigned
+     * key first.
+     */
+    @Override
+    public boolean isNew() {
+        return getUpdatedAt() == null;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable, Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::getScope)
+                .thenComparing(Key::getScopeId)
+                .thenComparing(Key::getGranularity)
+                .thenComparing(Key::getBucketStart);
+
+        private String scope;
+        private Long scopeId;
+        private TrendGranularity granularity;
+        private LocalDate bucketStart;
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
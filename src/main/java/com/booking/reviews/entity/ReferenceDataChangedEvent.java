@@ -0,0 +1,8 @@
+package com.booking.reviews.entity;
+
+/**
+ * A {@link Hotel}, {@link HotelType} or {@link Room} was inserted, updated or deleted. Published
+ * synchronously inside the writing transaction, before it commits.
+ */
+public record ReferenceDataChangedEvent(Object entity) {
+}
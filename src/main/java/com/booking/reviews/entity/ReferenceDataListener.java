@@ -0,0 +1,28 @@
+package com.booking.reviews.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener of the reference data entities. Publishes a {@link ReferenceDataChangedEvent}
+ * for every write made through JPA, so caches of these rows can be kept in step.
+ */
+@Component
+public class ReferenceDataListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReferenceDataListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(entity));
+    }
+}
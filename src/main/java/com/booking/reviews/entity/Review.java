@@ -10,10 +10,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reviews", indexes = {
-    @Index(name = "idx_review_room_id", columnList = "room_id"),
     @Index(name = "idx_review_booking_id", columnList = "booking_id"),
     @Index(name = "idx_review_created_at", columnList = "created_at"),
-    @Index(name = "idx_review_room_rating", columnList = "room_id, rating")
+    @Index(name = "idx_review_room_created_id", columnList = "room_id, created_at, review_id"),
+    @Index(name = "idx_review_room_rating_created_id", columnList = "room_id, rating, created_at, review_id")
 })
 @Data
 @Builder
@@ -21,8 +21,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Review {
 
+    // Sequence-backed so Hibernate can batch inserts; IDENTITY forces one round trip per row.
+    // The pooled allocation size must match the sequence increment (V2__partition_reviews.sql).
+    // The table's primary key is (review_id, created_at) since reviews are partitioned by month;
+    // review_id alone is still unique.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_id_seq")
+    @SequenceGenerator(name = "review_id_seq", sequenceName = "reviews_review_id_seq", allocationSize = 50)
     @Column(name = "review_id")
     private Long reviewId;
 
@@ -0,0 +1,56 @@
+package com.booking.reviews.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rating counters shared by the room and hotel aggregate tables.
+ */
+@MappedSuperclass
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public abstract class ReviewStatsAggregate {
+
+    @Column(name = "total_reviews", nullable = false)
+    private Long totalReviews;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private Long rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private Long rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private Long rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private Long rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private Long rating5Count;
+
+    @Column(name = "last_review_at")
+    private LocalDateTime lastReviewAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+}
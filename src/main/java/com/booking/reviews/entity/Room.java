@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ReferenceDataListener.class)
 @Table(name = "rooms", uniqueConstraints = {
     @UniqueConstraint(name = "uk_room_hotel_room_number", columnNames = {"hotel_id", "room_number"})
 })
@@ -0,0 +1,26 @@
+package com.booking.reviews.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Per-room rating aggregate, maintained in the same transaction as every review insert
+ * and periodically repaired from the raw {@code reviews} table.
+ */
+@Entity
+@Table(name = "room_review_stats")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+public class RoomReviewStats extends ReviewStatsAggregate {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+}
@@ -0,0 +1,66 @@
+package com.booking.reviews.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Width of a {@link RatingTrendBucket}. Weeks start on Monday.
+ */
+public enum TrendGranularity {
+
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * @return the granularity, or {@code null} when the value is not a supported granularity
+     */
+    public static TrendGranularity parse(String granularity) {
+        if (granularity == null || granularity.isEmpty()) {
+            return DAY;
+        }
+        try {
+            return valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * First day of the bucket that contains {@code date}.
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * First day of the bucket after the one starting at {@code bucketStart}.
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+
+    /**
+     * Number of buckets needed to cover {@code from} to {@code to}, both inclusive.
+     */
+    public long bucketsBetween(LocalDate from, LocalDate to) {
+        LocalDate start = bucketStart(from);
+        LocalDate end = bucketStart(to);
+        return switch (this) {
+            case DAY -> ChronoUnit.DAYS.between(start, end) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(start, end) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(start, end) + 1;
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.booking.reviews.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.entity.ReviewStatsAggregate;
+
+/**
+ * Creates the first row of a rating aggregate, mixed into the repositories of the room and hotel
+ * stats and the trend buckets.
+ */
+public interface AggregateRowRepository<T extends ReviewStatsAggregate> {
+
+    /**
+     * Inserts {@code row} unless a row with its key exists. Concurrent writers of a new row race
+     * on its primary key; the loser gets {@code false} and adds its counts to the winner's row.
+     * The insert runs under a savepoint, so losing leaves the current transaction usable. Must be
+     * called in a read-write transaction.
+     *
+     * @return whether the row was inserted
+     */
+    boolean insertIfAbsent(T row);
+}
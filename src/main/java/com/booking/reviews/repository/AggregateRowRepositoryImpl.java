@@ -0,0 +1,101 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.config.StatementCounter;
+import com.booking.reviews.entity.HotelReviewStats;
+import com.booking.reviews.entity.RatingTrendBucket;
+import com.booking.reviews.entity.ReviewStatsAggregate;
+import com.booking.reviews.entity.RoomReviewStats;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC on the transaction's connection. A failed insert through the entity manager would
+ * mark the whole transaction for rollback, and PostgreSQL aborts a transaction on any error
+ * unless it is rolled back to a savepoint.
+ */
+class AggregateRowRepositoryImpl<T extends ReviewStatsAggregate> implements AggregateRowRepository<T> {
+
+    /** SQLSTATE of a unique constraint violation, on PostgreSQL and H2 alike. */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    AggregateRowRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertIfAbsent(T row) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        String table = keyColumns(row, columns);
+        columns.put("total_reviews", row.getTotalReviews());
+        columns.put("rating_sum", row.getRatingSum());
+        columns.put("rating_1_count", row.getRating1Count());
+        columns.put("rating_2_count", row.getRating2Count());
+        columns.put("rating_3_count", row.getRating3Count());
+        columns.put("rating_4_count", row.getRating4Count());
+        columns.put("rating_5_count", row.getRating5Count());
+        columns.put("last_review_at", row.getLastReviewAt());
+        columns.put("updated_at", LocalDateTime.now());
+
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns.keySet()) + ") VALUES (" +
+                String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        List<Object> values = new ArrayList<>(columns.values());
+
+        // SAVEPOINT, the insert, and RELEASE or ROLLBACK TO SAVEPOINT, for the request's statement budget
+        StatementCounter.add(3);
+        Boolean inserted = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(i + 1, values.get(i));
+                }
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    return false;
+                }
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return true;
+        });
+        return Boolean.TRUE.equals(inserted);
+    }
+
+    /**
+     * Puts the key columns of {@code row} into {@code columns}.
+     *
+     * @return the table of {@code row}
+     */
+    private static String keyColumns(ReviewStatsAggregate row, Map<String, Object> columns) {
+        if (row instanceof RoomReviewStats stats) {
+            columns.put("room_id", stats.getRoomId());
+            return "room_review_stats";
+        }
+        if (row instanceof HotelReviewStats stats) {
+            columns.put("hotel_id", stats.getHotelId());
+            columns.put("hotel_type_id", stats.getHotelTypeId());
+            return "hotel_review_stats";
+        }
+        if (row instanceof RatingTrendBucket bucket) {
+            columns.put("scope", bucket.getScope());
+            columns.put("scope_id", bucket.getScopeId());
+            columns.put("granularity", bucket.getGranularity().name());
+            columns.put("bucket_start", bucket.getBucketStart());
+            return "rating_trend_buckets";
+        }
+        throw new IllegalArgumentException("Not an aggregate row: " + row.getClass().getName());
+    }
+}
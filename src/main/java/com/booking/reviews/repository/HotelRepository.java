@@ -1,13 +1,29 @@
 package com.booking.reviews.repository;
 
+import com.booking.reviews.config.CacheConfig;
 import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.repository.projection.HotelReviewSetting;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
 
+    @Cacheable(cacheNames = CacheConfig.HOTELS, unless = "#result == null")
     Optional<Hotel> findByHotelId(Long hotelId);
+
+    /**
+     * One row per existing hotel; {@code reviewEnabled} is null when its hotel type does not exist.
+     */
+    @Query("SELECT h.hotelId AS hotelId, h.hotelTypeId AS hotelTypeId, ht.reviewEnabled AS reviewEnabled " +
+            "FROM Hotel h LEFT JOIN HotelType ht ON ht.hotelTypeId = h.hotelTypeId " +
+            "WHERE h.hotelId IN :hotelIds")
+    List<HotelReviewSetting> findReviewSettingsByHotelIds(@Param("hotelIds") Collection<Long> hotelIds);
 }
@@ -0,0 +1,59 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.entity.HotelReviewStats;
+import com.booking.reviews.repository.projection.RatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface HotelReviewStatsRepository extends JpaRepository<HotelReviewStats, Long>,
+        AggregateRowRepository<HotelReviewStats> {
+
+    /**
+     * Same contract as {@link RoomReviewStatsRepository#incrementCounts}, applied to the hotel rollup.
+     */
+    @Modifying
+    @Query("UPDATE HotelReviewStats s SET " +
+            "s.totalReviews = s.totalReviews + :total, " +
+            "s.ratingSum = s.ratingSum + :ratingSum, " +
+            "s.rating1Count = s.rating1Count + :rating1, " +
+            "s.rating2Count = s.rating2Count + :rating2, " +
+            "s.rating3Count = s.rating3Count + :rating3, " +
+            "s.rating4Count = s.rating4Count + :rating4, " +
+            "s.rating5Count = s.rating5Count + :rating5, " +
+            "s.lastReviewAt = CASE WHEN s.lastReviewAt IS NULL OR s.lastReviewAt < :lastReviewAt " +
+            "THEN :lastReviewAt ELSE s.lastReviewAt END, " +
+            "s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.hotelId = :hotelId")
+    int incrementCounts(@Param("hotelId") Long hotelId,
+                        @Param("total") long total,
+                        @Param("ratingSum") long ratingSum,
+                        @Param("rating1") long rating1,
+                        @Param("rating2") long rating2,
+                        @Param("rating3") long rating3,
+                        @Param("rating4") long rating4,
+                        @Param("rating5") long rating5,
+                        @Param("lastReviewAt") LocalDateTime lastReviewAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM HotelReviewStats s WHERE s.hotelId = :hotelId")
+    Optional<HotelReviewStats> findByHotelIdForUpdate(@Param("hotelId") Long hotelId);
+
+    /**
+     * Sums the hotel rollups of one hotel type. A type with no reviewed hotels yields null counters.
+     */
+    @Query("SELECT SUM(s.totalReviews) AS totalReviews, SUM(s.ratingSum) AS ratingSum, " +
+            "SUM(s.rating1Count) AS rating1Count, SUM(s.rating2Count) AS rating2Count, " +
+            "SUM(s.rating3Count) AS rating3Count, SUM(s.rating4Count) AS rating4Count, " +
+            "SUM(s.rating5Count) AS rating5Count, MAX(s.lastReviewAt) AS lastReviewAt " +
+            "FROM HotelReviewStats s WHERE s.hotelTypeId = :hotelTypeId")
+    RatingSummary sumByHotelTypeId(@Param("hotelTypeId") Long hotelTypeId);
+}
@@ -1,6 +1,8 @@
 package com.booking.reviews.repository;
 
+import com.booking.reviews.config.CacheConfig;
 import com.booking.reviews.entity.HotelType;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +11,6 @@ import java.util.Optional;
 @Repository
 public interface HotelTypeRepository extends JpaRepository<HotelType, Long> {
 
+    @Cacheable(cacheNames = CacheConfig.HOTEL_TYPES, unless = "#result == null")
     Optional<HotelType> findByHotelTypeId(Long hotelTypeId);
 }
@@ -0,0 +1,85 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.entity.RatingTrendBucket;
+import com.booking.reviews.entity.TrendGranularity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RatingTrendBucketRepository extends JpaRepository<RatingTrendBucket, RatingTrendBucket.Key>,
+        AggregateRowRepository<RatingTrendBucket> {
+
+    /**
+     * Same contract as {@link RoomReviewStatsRepository#incrementCounts}, applied to one bucket.
+     */
+    @Modifying
+    @Query("UPDATE RatingTrendBucket b SET " +
+            "b.totalReviews = b.totalReviews + :total, " +
+            "b.ratingSum = b.ratingSum + :ratingSum, " +
+            "b.rating1Count = b.rating1Count + :rating1, " +
+            "b.rating2Count = b.rating2Count + :rating2, " +
+            "b.rating3Count = b.rating3Count + :rating3, " +
+            "b.rating4Count = b.rating4Count + :rating4, " +
+            "b.rating5Count = b.rating5Count + :rating5, " +
+            "b.lastReviewAt = CASE WHEN b.lastReviewAt IS NULL OR b.lastReviewAt < :lastReviewAt " +
+            "THEN :lastReviewAt ELSE b.lastReviewAt END, " +
+            "b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.scope = :scope AND b.scopeId = :scopeId " +
+            "AND b.granularity = :granularity AND b.bucketStart = :bucketStart")
+    int incrementCounts(@Param("scope") String scope,
+                        @Param("scopeId") Long scopeId,
+                        @Param("granularity") TrendGranularity granularity,
+                        @Param("bucketStart") LocalDate bucketStart,
+                        @Param("total") long total,
+                        @Param("ratingSum") long ratingSum,
+                        @Param("rating1") long rating1,
+                        @Param("rating2") long rating2,
+                        @Param("rating3") long rating3,
+                        @Param("rating4") long rating4,
+                        @Param("rating5") long rating5,
+                        @Param("lastReviewAt") LocalDateTime lastReviewAt);
+
+    /**
+     * Buckets of one room or hotel with the given granularities starting within {@code from} to
+     * {@code to}, both inclusive. Served by the primary key.
+     */
+    @Query("SELECT b FROM RatingTrendBucket b " +
+            "WHERE b.scope = :scope AND b.scopeId = :scopeId AND b.granularity IN :granularities " +
+            "AND b.bucketStart BETWEEN :from AND :to")
+    List<RatingTrendBucket> findSeries(@Param("scope") String scope,
+                                       @Param("scopeId") Long scopeId,
+                                       @Param("granularities") Collection<TrendGranularity> granularities,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    @Query("SELECT DISTINCT b.bucketStart FROM RatingTrendBucket b " +
+            "WHERE b.granularity = :granularity AND b.bucketStart < :before ORDER BY b.bucketStart")
+    List<LocalDate> findBucketStartsBefore(@Param("granularity") TrendGranularity granularity,
+                                           @Param("before") LocalDate before);
+
+    List<RatingTrendBucket> findByGranularityAndBucketStart(TrendGranularity granularity, LocalDate bucketStart);
+
+    /**
+     * Locks the buckets until the transaction ends. A concurrent caller waits, and once the first
+     * transaction has deleted the buckets and committed, it gets none of them back.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RatingTrendBucket b WHERE b.granularity = :granularity AND b.bucketStart = :bucketStart")
+    List<RatingTrendBucket> findByGranularityAndBucketStartForUpdate(@Param("granularity") TrendGranularity granularity,
+                                                                     @Param("bucketStart") LocalDate bucketStart);
+
+    @Modifying
+    @Query("DELETE FROM RatingTrendBucket b WHERE b.granularity = :granularity AND b.bucketStart = :bucketStart")
+    int deleteByGranularityAndBucketStart(@Param("granularity") TrendGranularity granularity,
+                                          @Param("bucketStart") LocalDate bucketStart);
+}
@@ -1,24 +1,107 @@
 package com.booking.reviews.repository;
 
+import com.booking.reviews.dto.ReviewResponse;
 import com.booking.reviews.entity.Review;
+import com.booking.reviews.repository.projection.HotelRatingCount;
+import com.booking.reviews.repository.projection.RatingCount;
+import com.booking.reviews.repository.projection.RoomRatingCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewSearchRepository {
 
     @Query("SELECT r FROM Review r WHERE r.roomId = :roomId")
     Page<Review> findByRoomId(@Param("roomId") Long roomId, Pageable pageable);
 
+    String REVIEW_RESPONSE_SELECT = "SELECT new com.booking.reviews.dto.ReviewResponse(" +
+            "r.reviewId, r.roomId, r.bookingId, r.rating, r.comment, b.guestEmail, b.guestName, r.createdAt) " +
+            "FROM Review r LEFT JOIN Booking b ON b.bookingId = r.bookingId ";
+
+    /**
+     * Builds {@link ReviewResponse} rows straight from a reviews-bookings join, so a page costs one
+     * select plus the count regardless of its size.
+     */
+    @Query(value = REVIEW_RESPONSE_SELECT + "WHERE r.roomId = :roomId",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.roomId = :roomId")
+    Page<ReviewResponse> findResponsesByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    // Keyset pagination. None of these issue a count query; callers pass an unpaged limit and the
+    // order from ReviewSortOrder#toKeysetSort, served by idx_review_room_created_id and
+    // idx_review_room_rating_created_id. The plain createdAt bound repeats the cursor condition so
+    // PostgreSQL can skip the partitions on the far side of the cursor; it cannot prune on an OR.
+
+    @Query(REVIEW_RESPONSE_SELECT + "WHERE r.roomId = :roomId")
+    List<ReviewResponse> findResponseSliceByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query(REVIEW_RESPONSE_SELECT + "WHERE r.roomId = :roomId " +
+            "AND r.createdAt <= :createdAt " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId))")
+    List<ReviewResponse> findResponsesByRoomIdBefore(@Param("roomId") Long roomId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("reviewId") Long reviewId,
+                                                     Pageable pageable);
+
+    @Query(REVIEW_RESPONSE_SELECT + "WHERE r.roomId = :roomId " +
+            "AND r.createdAt >= :createdAt " +
+            "AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.reviewId > :reviewId))")
+    List<ReviewResponse> findResponsesByRoomIdAfter(@Param("roomId") Long roomId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("reviewId") Long reviewId,
+                                                    Pageable pageable);
+
+    @Query(REVIEW_RESPONSE_SELECT + "WHERE r.roomId = :roomId AND r.rating = :rating")
+    List<ReviewResponse> findResponseSliceByRoomIdAndRating(@Param("roomId") Long roomId,
+                                                            @Param("rating") Short rating,
+                                                            Pageable pageable);
+
+    @Query(REVIEW_RESPONSE_SELECT + "WHERE r.roomId = :roomId AND r.rating = :rating " +
+            "AND r.createdAt <= :createdAt " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId))")
+    List<ReviewResponse> findResponsesByRoomIdAndRatingBefore(@Param("roomId") Long roomId,
+                                                              @Param("rating") Short rating,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("reviewId") Long reviewId,
+                                                              Pageable pageable);
+
+    /**
+     * Export cursor. Rows are fetched from the database in chunks of the fetch size instead of
+     * being materialized up front; callers must consume it inside a transaction and close it.
+     * <p>
+     * Both bounds are required: a plain range lets PostgreSQL read only the partitions it covers,
+     * which an optional {@code :from IS NULL OR ...} bound would prevent.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(REVIEW_RESPONSE_SELECT + "JOIN Room rm ON rm.roomId = r.roomId " +
+            "WHERE (:hotelId IS NULL OR rm.hotelId = :hotelId) " +
+            "AND (:roomId IS NULL OR r.roomId = :roomId) " +
+            "AND r.createdAt >= :from AND r.createdAt < :to " +
+            "ORDER BY r.reviewId")
+    Stream<ReviewResponse> streamResponses(@Param("hotelId") Long hotelId,
+                                           @Param("roomId") Long roomId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
     Optional<Review> findByBookingId(Long bookingId);
 
-    boolean existsByBookingId(Long bookingId);
+    @Query("SELECT r.bookingId FROM Review r WHERE r.bookingId IN :bookingIds")
+    List<Long> findReviewedBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
 
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.roomId = :roomId")
     Double findAverageRatingByRoomId(@Param("roomId") Long roomId);
@@ -28,4 +111,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     @Query("SELECT COUNT(r) FROM Review r WHERE r.roomId = :roomId AND r.rating = :rating")
     Long countByRoomIdAndRating(@Param("roomId") Long roomId, @Param("rating") Short rating);
+
+    @Query("SELECT r.roomId AS roomId, r.rating AS rating, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt " +
+            "FROM Review r WHERE r.roomId = :roomId GROUP BY r.roomId, r.rating")
+    List<RoomRatingCount> findRatingCountsByRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * Rating counts for many rooms in one pass over {@code idx_review_room_rating_created_id}.
+     */
+    @Query("SELECT r.roomId AS roomId, r.rating AS rating, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt " +
+            "FROM Review r WHERE r.roomId IN :roomIds GROUP BY r.roomId, r.rating")
+    List<RoomRatingCount> findRatingCountsByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    @Query("SELECT r.roomId AS roomId, r.rating AS rating, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt " +
+            "FROM Review r GROUP BY r.roomId, r.rating")
+    List<RoomRatingCount> findAllRatingCounts();
+
+    @Query("SELECT r.rating AS rating, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt " +
+            "FROM Review r JOIN Room rm ON rm.roomId = r.roomId " +
+            "WHERE rm.hotelId = :hotelId GROUP BY r.rating")
+    List<RatingCount> findRatingCountsByHotelId(@Param("hotelId") Long hotelId);
+
+    @Query("SELECT rm.hotelId AS hotelId, r.rating AS rating, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt " +
+            "FROM Review r JOIN Room rm ON rm.roomId = r.roomId GROUP BY rm.hotelId, r.rating")
+    List<HotelRatingCount> findAllHotelRatingCounts();
 }
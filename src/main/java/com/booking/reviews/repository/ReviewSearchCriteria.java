@@ -0,0 +1,14 @@
+package com.booking.reviews.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Review comment search. Everything except {@code query} is an optional filter.
+ *
+ * @param query web-search syntax: words, {@code "quoted phrases"}, {@code or}, {@code -excluded}
+ * @param from  inclusive lower bound on {@code createdAt}
+ * @param to    exclusive upper bound on {@code createdAt}
+ */
+public record ReviewSearchCriteria(String query, Long hotelId, Long roomId, Short rating,
+                                   LocalDateTime from, LocalDateTime to) {
+}
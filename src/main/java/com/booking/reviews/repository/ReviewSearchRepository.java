@@ -0,0 +1,16 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.dto.ReviewSearchHit;
+
+import java.util.List;
+
+/**
+ * Full-text search over review comments, mixed into {@link ReviewRepository}.
+ */
+public interface ReviewSearchRepository {
+
+    /**
+     * @return up to {@code limit} matches after skipping {@code offset}, most relevant first
+     */
+    List<ReviewSearchHit> searchComments(ReviewSearchCriteria criteria, int offset, int limit);
+}
@@ -0,0 +1,134 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.dto.ReviewSearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On PostgreSQL, matches {@code reviews.comment_tsv} (a generated {@code tsvector} column with a
+ * GIN index, see {@code db/migration}) against {@code websearch_to_tsquery} and ranks by
+ * {@code ts_rank_cd}. Other databases (H2 in tests) get an unindexed {@code LIKE} fallback that
+ * approximates the same query syntax and orders by newest first.
+ */
+class ReviewSearchRepositoryImpl implements ReviewSearchRepository {
+
+    // Must match the configuration the comment_tsv column is generated with
+    private static final String TEXT_SEARCH_CONFIG = "english";
+
+    private static final String SELECT = "SELECT r.review_id, r.room_id, rm.hotel_id, r.booking_id, r.rating, " +
+            "r.comment, b.guest_email, b.guest_name, r.created_at, ";
+    private static final String JOINS = "FROM reviews r " +
+            "JOIN rooms rm ON rm.room_id = r.room_id " +
+            "LEFT JOIN bookings b ON b.booking_id = r.booking_id ";
+
+    /** Quoted phrases, optionally negated, or single words, optionally negated. */
+    private static final Pattern TERM = Pattern.compile("(-?)\"([^\"]*)\"|(-?)(\\S+)");
+
+    private final EntityManager entityManager;
+    private final boolean fullText;
+
+    ReviewSearchRepositoryImpl(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.fullText = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public List<ReviewSearchHit> searchComments(ReviewSearchCriteria criteria, int offset, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (fullText) {
+            sql.append("ts_rank_cd(r.comment_tsv, q.query) AS score ")
+                    .append(JOINS)
+                    .append("CROSS JOIN websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :query) AS q(query) ")
+                    .append("WHERE r.comment_tsv @@ q.query ");
+            parameters.put("query", criteria.query());
+        } else {
+            sql.append("0 AS score ").append(JOINS).append("WHERE r.comment IS NOT NULL ");
+            appendLikeTerms(criteria.query(), sql, parameters);
+        }
+
+        if (criteria.hotelId() != null) {
+            sql.append("AND rm.hotel_id = :hotelId ");
+            parameters.put("hotelId", criteria.hotelId());
+        }
+        if (criteria.roomId() != null) {
+            sql.append("AND r.room_id = :roomId ");
+            parameters.put("roomId", criteria.roomId());
+        }
+        if (criteria.rating() != null) {
+            sql.append("AND r.rating = :rating ");
+            parameters.put("rating", criteria.rating());
+        }
+        if (criteria.from() != null) {
+            sql.append("AND r.created_at >= :from ");
+            parameters.put("from", criteria.from());
+        }
+        if (criteria.to() != null) {
+            sql.append("AND r.created_at < :to ");
+            parameters.put("to", criteria.to());
+        }
+        sql.append(fullText ? "ORDER BY score DESC, r.review_id DESC " : "ORDER BY r.created_at DESC, r.review_id DESC ");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+
+        List<ReviewSearchHit> hits = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            hits.add(toHit((Object[]) result));
+        }
+        return hits;
+    }
+
+    /**
+     * Every word or quoted phrase must appear in the comment, case-insensitively, and those prefixed
+     * with {@code -} must not. {@code or} is ignored, so alternatives narrow instead of widen.
+     */
+    static void appendLikeTerms(String query, StringBuilder sql, Map<String, Object> parameters) {
+        Matcher matcher = TERM.matcher(query);
+        int index = 0;
+        while (matcher.find()) {
+            boolean phrase = matcher.group(2) != null;
+            boolean negated = !(phrase ? matcher.group(1) : matcher.group(3)).isEmpty();
+            String term = (phrase ? matcher.group(2) : matcher.group(4)).trim().toLowerCase(Locale.ROOT);
+            if (term.isEmpty() || (!phrase && term.equals("or"))) {
+                continue;
+            }
+            String name = "term" + index++;
+            sql.append("AND LOWER(r.comment) ").append(negated ? "NOT LIKE " : "LIKE ")
+                    .append(':').append(name).append(" ESCAPE '!' ");
+            parameters.put(name, "%" + term.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+        }
+    }
+
+    private static ReviewSearchHit toHit(Object[] row) {
+        return ReviewSearchHit.builder()
+                .reviewId(((Number) row[0]).longValue())
+                .roomId(((Number) row[1]).longValue())
+                .hotelId(((Number) row[2]).longValue())
+                .bookingId(((Number) row[3]).longValue())
+                .rating(((Number) row[4]).shortValue())
+                .comment((String) row[5])
+                .reviewerEmail((String) row[6])
+                .reviewerName((String) row[7])
+                .createdAt(row[8] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) row[8])
+                .rank(((Number) row[9]).doubleValue())
+                .build();
+    }
+}
@@ -1,13 +1,38 @@
 package com.booking.reviews.repository;
 
+import com.booking.reviews.config.CacheConfig;
 import com.booking.reviews.entity.Room;
+import com.booking.reviews.repository.projection.ReviewTarget;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
+    @Cacheable(cacheNames = CacheConfig.ROOMS, unless = "#result == null")
     Optional<Room> findByRoomId(Long roomId);
+
+    @Query("SELECT r.roomId FROM Room r WHERE r.roomId IN :roomIds")
+    List<Long> findExistingRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * Everything a new review is validated against, in one statement. Empty when the room does not
+     * exist; the booking is joined by its own ID so a booking of another room is still found.
+     */
+    @Query("SELECT rm.roomId AS roomId, rm.hotelId AS roomHotelId, " +
+            "b.bookingId AS bookingId, b.roomId AS bookingRoomId, b.guestEmail AS guestEmail, b.guestName AS guestName, " +
+            "h.hotelId AS hotelId, h.hotelTypeId AS hotelTypeId, ht.reviewEnabled AS reviewEnabled " +
+            "FROM Room rm " +
+            "LEFT JOIN Booking b ON b.bookingId = :bookingId " +
+            "LEFT JOIN Hotel h ON h.hotelId = rm.hotelId " +
+            "LEFT JOIN HotelType ht ON ht.hotelTypeId = h.hotelTypeId " +
+            "WHERE rm.roomId = :roomId")
+    Optional<ReviewTarget> findReviewTarget(@Param("roomId") Long roomId, @Param("bookingId") Long bookingId);
 }
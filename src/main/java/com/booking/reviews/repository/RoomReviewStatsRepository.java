@@ -0,0 +1,59 @@
+package com.booking.reviews.repository;
+
+import com.booking.reviews.entity.RoomReviewStats;
+import com.booking.reviews.repository.projection.RoomStanding;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoomReviewStatsRepository extends JpaRepository<RoomReviewStats, Long>,
+        AggregateRowRepository<RoomReviewStats> {
+
+    /**
+     * Adds the given counts to an existing aggregate row in a single statement, so concurrent
+     * writers never lose increments. Returns 0 when the room has no aggregate row yet.
+     */
+    @Modifying
+    @Query("UPDATE RoomReviewStats s SET " +
+            "s.totalReviews = s.totalReviews + :total, " +
+            "s.ratingSum = s.ratingSum + :ratingSum, " +
+            "s.rating1Count = s.rating1Count + :rating1, " +
+            "s.rating2Count = s.rating2Count + :rating2, " +
+            "s.rating3Count = s.rating3Count + :rating3, " +
+            "s.rating4Count = s.rating4Count + :rating4, " +
+            "s.rating5Count = s.rating5Count + :rating5, " +
+            "s.lastReviewAt = CASE WHEN s.lastReviewAt IS NULL OR s.lastReviewAt < :lastReviewAt " +
+            "THEN :lastReviewAt ELSE s.lastReviewAt END, " +
+            "s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.roomId = :roomId")
+    int incrementCounts(@Param("roomId") Long roomId,
+                        @Param("total") long total,
+                        @Param("ratingSum") long ratingSum,
+                        @Param("rating1") long rating1,
+                        @Param("rating2") long rating2,
+                        @Param("rating3") long rating3,
+                        @Param("rating4") long rating4,
+                        @Param("rating5") long rating5,
+                        @Param("lastReviewAt") LocalDateTime lastReviewAt);
+
+    /**
+     * Every room aggregate joined to its hotel and hotel type, for rebuilding the room leaderboards.
+     */
+    @Query("SELECT s.roomId AS roomId, rm.hotelId AS hotelId, h.hotelTypeId AS hotelTypeId, " +
+            "s.totalReviews AS totalReviews, s.ratingSum AS ratingSum " +
+            "FROM RoomReviewStats s JOIN Room rm ON rm.roomId = s.roomId JOIN Hotel h ON h.hotelId = rm.hotelId")
+    List<RoomStanding> findAllStandings();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RoomReviewStats s WHERE s.roomId = :roomId")
+    Optional<RoomReviewStats> findByRoomIdForUpdate(@Param("roomId") Long roomId);
+}
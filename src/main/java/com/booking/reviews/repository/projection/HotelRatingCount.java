@@ -0,0 +1,9 @@
+package com.booking.reviews.repository.projection;
+
+/**
+ * One row of a {@code GROUP BY hotel_id, rating} pass over reviews joined to rooms.
+ */
+public interface HotelRatingCount extends RatingCount {
+
+    Long getHotelId();
+}
@@ -0,0 +1,13 @@
+package com.booking.reviews.repository.projection;
+
+/**
+ * Hotel joined to its hotel type, reduced to what review configuration needs.
+ */
+public interface HotelReviewSetting {
+
+    Long getHotelId();
+
+    Long getHotelTypeId();
+
+    Boolean getReviewEnabled();
+}
@@ -0,0 +1,15 @@
+package com.booking.reviews.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a {@code GROUP BY rating} pass over the reviews table.
+ */
+public interface RatingCount {
+
+    Short getRating();
+
+    Long getReviewCount();
+
+    LocalDateTime getLastReviewAt();
+}
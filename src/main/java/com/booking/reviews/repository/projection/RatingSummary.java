@@ -0,0 +1,25 @@
+package com.booking.reviews.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored or summed rating counters of an aggregate row.
+ */
+public interface RatingSummary {
+
+    Long getTotalReviews();
+
+    Long getRatingSum();
+
+    Long getRating1Count();
+
+    Long getRating2Count();
+
+    Long getRating3Count();
+
+    Long getRating4Count();
+
+    Long getRating5Count();
+
+    LocalDateTime getLastReviewAt();
+}
@@ -0,0 +1,29 @@
+package com.booking.reviews.repository.projection;
+
+/**
+ * Room joined to the booking, hotel and hotel type a new review is validated against. Columns of a
+ * booking, hotel or hotel type that does not exist are null.
+ */
+public interface ReviewTarget {
+
+    Long getRoomId();
+
+    /** The room's hotel ID, set even when that hotel does not exist. */
+    Long getRoomHotelId();
+
+    Long getBookingId();
+
+    Long getBookingRoomId();
+
+    String getGuestEmail();
+
+    String getGuestName();
+
+    Long getHotelId();
+
+    /** The hotel's type ID, set even when that hotel type does not exist. */
+    Long getHotelTypeId();
+
+    /** Null when the hotel type does not exist. */
+    Boolean getReviewEnabled();
+}
@@ -0,0 +1,9 @@
+package com.booking.reviews.repository.projection;
+
+/**
+ * One row of a {@code GROUP BY room_id, rating} pass over the reviews table.
+ */
+public interface RoomRatingCount extends RatingCount {
+
+    Long getRoomId();
+}
@@ -0,0 +1,17 @@
+package com.booking.reviews.repository.projection;
+
+/**
+ * A room's review totals with the hotel and hotel type it ranks in.
+ */
+public interface RoomStanding {
+
+    Long getRoomId();
+
+    Long getHotelId();
+
+    Long getHotelTypeId();
+
+    Long getTotalReviews();
+
+    Long getRatingSum();
+}
@@ -0,0 +1,237 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.AsyncReviewStatusResponse;
+import com.booking.reviews.dto.BulkReviewItemResult;
+import com.booking.reviews.dto.BulkReviewResponse;
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.exception.FeatureDisabledException;
+import com.booking.reviews.exception.ServiceUnavailableException;
+import com.booking.reviews.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional asynchronous write path. Accepted reviews wait in a bounded in-memory queue and a
+ * single writer thread drains them in batches through {@link ReviewService#createReviews}, so a
+ * burst of N submissions costs N / batch-size transactions and connections instead of N.
+ * When the queue is full, submissions are rejected with a retry hint instead of piling up.
+ *
+ * <p>Queued reviews live only in memory: they are flushed on graceful shutdown but lost if the
+ * process dies, which is why this mode is opt-in. Once shutdown has begun, submissions are
+ * rejected so that none arrive after the final flush.
+ */
+@Service
+@ConditionalOnProperty(name = "reviews.async-write.enabled", havingValue = "true")
+public class AsyncReviewWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncReviewWriter.class);
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private final ReviewService reviewService;
+    private final BlockingQueue<PendingReview> queue;
+    private final Cache<String, AsyncReviewStatusResponse> statuses;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+    private final Counter rejectedCounter;
+    // Submissions hold the read lock while they enqueue; stop() takes the write lock to close the
+    // queue, so every accepted review is queued before the writer sees running turn false
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    private boolean stopping;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AsyncReviewWriter(
+            ReviewService reviewService,
+            @Value("${reviews.async-write.queue-capacity:10000}") int queueCapacity,
+            @Value("${reviews.async-write.batch-size:200}") int batchSize,
+            @Value("${reviews.async-write.status-ttl:1h}") Duration statusTtl,
+            @Value("${reviews.async-write.retry-after:1s}") Duration retryAfter,
+            MeterRegistry meterRegistry) {
+        this.reviewService = reviewService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .maximumSize(queueCapacity * 10L)
+                .build();
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+        Gauge.builder("reviews.async.queue.size", queue, BlockingQueue::size)
+                .description("Reviews waiting for the asynchronous writer")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("reviews.async.rejected")
+                .description("Review submissions rejected because the write queue was full or the writer was stopping")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = new Thread(this::run, "review-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("Asynchronous review writer started (capacity: {}, batch size: {})",
+                queue.remainingCapacity(), batchSize);
+    }
+
+    /**
+     * Lets the writer finish its current batch and flush the queue, then waits for it to exit.
+     * The writer is never interrupted: that would fail a batch midway, on reviews that were
+     * already accepted.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        shutdownLock.writeLock().lock();
+        try {
+            stopping = true;
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        if (writerThread.isAlive()) {
+            logger.error("Asynchronous review writer still flushing after {} ms, {} queued reviews may be lost",
+                    SHUTDOWN_TIMEOUT_MS, queue.size());
+        }
+    }
+
+    /**
+     * Accepts a bean-validated request for asynchronous writing.
+     *
+     * @throws TooManyRequestsException when the queue is full
+     * @throws ServiceUnavailableException once shutdown has begun
+     */
+    public AsyncReviewStatusResponse submit(ReviewRequest request) {
+        shutdownLock.readLock().lock();
+        try {
+            if (stopping) {
+                rejectedCounter.increment();
+                throw new ServiceUnavailableException("Review writer is shutting down, please retry later",
+                        retryAfterSeconds);
+            }
+
+            AsyncReviewStatusResponse queued = AsyncReviewStatusResponse.queued(UUID.randomUUID().toString());
+            statuses.put(queued.getTrackingId(), queued);
+
+            if (!queue.offer(new PendingReview(queued.getTrackingId(), request))) {
+                statuses.invalidate(queued.getTrackingId());
+                rejectedCounter.increment();
+                throw new TooManyRequestsException("Review write queue is full, please retry later", retryAfterSeconds);
+            }
+            return queued;
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+    }
+
+    public Optional<AsyncReviewStatusResponse> getStatus(String trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                drainOnce(POLL_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Asynchronous review writer failed to process a batch", e);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Writes whatever was accepted before shutdown. Runs on the writer thread after its loop, so
+     * it never overlaps with another batch.
+     */
+    private void flush() {
+        int flushed = 0;
+        try {
+            int drained;
+            while ((drained = drainOnce(0)) > 0) {
+                flushed += drained;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Asynchronous review writer stopped, {} queued reviews flushed", flushed);
+    }
+
+    /**
+     * Waits up to {@code timeoutMs} for a queued review, then writes it together with whatever
+     * else is queued, up to the batch size.
+     *
+     * @return number of reviews processed
+     */
+    int drainOnce(long timeoutMs) throws InterruptedException {
+        PendingReview first = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<PendingReview> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        write(batch);
+        return batch.size();
+    }
+
+    private void write(List<PendingReview> batch) {
+        List<ReviewRequest> requests = batch.stream().map(PendingReview::request).toList();
+        try {
+            BulkReviewResponse response = reviewService.createReviews(requests);
+            for (int i = 0; i < batch.size(); i++) {
+                BulkReviewItemResult result = response.getResults().get(i);
+                statuses.asMap().computeIfPresent(batch.get(i).trackingId(), (id, status) -> status.completed(result));
+            }
+        } catch (FeatureDisabledException e) {
+            fail(batch, "FEATURE_DISABLED", e.getMessage());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                logger.error("Asynchronous review write failed for trackingId: {}", batch.get(0).trackingId(), e);
+                fail(batch, "INTERNAL_ERROR", "An unexpected error occurred");
+                return;
+            }
+            // One bad row rolls back the whole group commit; isolate it by writing one at a time
+            logger.warn("Group commit of {} reviews failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (PendingReview pending : batch) {
+                write(List.of(pending));
+            }
+        }
+    }
+
+    private void fail(List<PendingReview> batch, String code, String message) {
+        for (PendingReview pending : batch) {
+            statuses.asMap().computeIfPresent(pending.trackingId(), (id, status) -> status.failed(code, message));
+        }
+    }
+
+    private record PendingReview(String trackingId, ReviewRequest request) {
+    }
+}
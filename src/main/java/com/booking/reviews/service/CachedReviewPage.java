@@ -0,0 +1,18 @@
+package com.booking.reviews.service;
+
+/**
+ * A review page serialized as JSON, with a gzipped copy when the page is large enough to be
+ * worth compressing.
+ *
+ * @param gzip gzipped {@code json}, or {@code null} when the page was not compressed
+ */
+public record CachedReviewPage(byte[] json, byte[] gzip) {
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    int weight() {
+        return json.length + (gzip != null ? gzip.length : 0);
+    }
+}
@@ -6,11 +6,17 @@ import com.booking.reviews.entity.HotelType;
 import com.booking.reviews.exception.ResourceNotFoundException;
 import com.booking.reviews.repository.HotelRepository;
 import com.booking.reviews.repository.HotelTypeRepository;
+import com.booking.reviews.repository.projection.HotelReviewSetting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Service
 public class ConfigService {
 
@@ -40,8 +46,49 @@ public class ConfigService {
                 .orElseThrow(() -> new ResourceNotFoundException("Hotel type not found: " + hotel.getHotelTypeId()));
 
         boolean globalEnabled = featureToggleService.isGlobalWriteReviewEnabled();
-        boolean hotelTypeEnabled = hotelType.getReviewEnabled();
+        return resolve(globalEnabled, hotelType.getReviewEnabled());
+    }
+
+    /**
+     * Resolves many hotels with one hotels-hotel_types join and a single toggle read. Unknown hotels
+     * and hotel types get a {@code NOT_FOUND} entry instead of failing the whole batch.
+     *
+     * @return configuration per hotel ID, in the order the IDs were given
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ConfigResponse> getReviewConfigs(Collection<Long> hotelIds) {
+        logger.debug("Fetching review config for {} hotels", hotelIds.size());
+
+        Map<Long, HotelReviewSetting> settingsByHotel = new HashMap<>();
+        for (HotelReviewSetting setting : hotelRepository.findReviewSettingsByHotelIds(hotelIds)) {
+            settingsByHotel.put(setting.getHotelId(), setting);
+        }
+
+        boolean globalEnabled = featureToggleService.isGlobalWriteReviewEnabled();
+
+        Map<Long, ConfigResponse> configs = new LinkedHashMap<>();
+        for (Long hotelId : hotelIds) {
+            HotelReviewSetting setting = settingsByHotel.get(hotelId);
+            if (setting == null) {
+                configs.put(hotelId, notFound("Hotel not found: " + hotelId));
+            } else if (setting.getReviewEnabled() == null) {
+                configs.put(hotelId, notFound("Hotel type not found: " + setting.getHotelTypeId()));
+            } else {
+                configs.put(hotelId, resolve(globalEnabled, setting.getReviewEnabled()));
+            }
+        }
+        return configs;
+    }
+
+    private static ConfigResponse notFound(String reason) {
+        return ConfigResponse.builder()
+                .enabled(false)
+                .scope("NOT_FOUND")
+                .reason(reason)
+                .build();
+    }
 
+    static ConfigResponse resolve(boolean globalEnabled, boolean hotelTypeEnabled) {
         boolean enabled = globalEnabled && hotelTypeEnabled;
 
         String scope;
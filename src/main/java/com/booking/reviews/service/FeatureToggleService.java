@@ -4,11 +4,31 @@ import com.amazonaws.services.simplesystemsmanagement.AWSSimpleSystemsManagement
 import com.amazonaws.services.simplesystemsmanagement.model.GetParameterRequest;
 import com.amazonaws.services.simplesystemsmanagement.model.GetParameterResult;
 import com.amazonaws.services.simplesystemsmanagement.model.ParameterNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the global write-review toggle from memory. The value is loaded at startup, refreshed by a
+ * background poller, and revalidated asynchronously when a request sees it older than the TTL.
+ * SSM failures keep the last known good value; only a cold start without any successful read
+ * falls back to {@code false}.
+ */
 @Service
 public class FeatureToggleService {
 
@@ -17,24 +37,94 @@ public class FeatureToggleService {
     private final AWSSimpleSystemsManagement ssmClient;
     private final String globalWriteReviewEnabledParameter;
     private final Boolean localOverrideEnabled;
+    private final Duration cacheTtl;
+    private final TaskExecutor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<ToggleSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean(false);
 
     public FeatureToggleService(
             AWSSimpleSystemsManagement ssmClient,
-            @Value("${aws.parameter-store.global-write-review-enabled:/review-system/global/write-review-enabled}") 
+            @Value("${aws.parameter-store.global-write-review-enabled:/review-system/global/write-review-enabled}")
             String globalWriteReviewEnabledParameter,
-            @Value("${feature-toggle.local-override.enabled:false}") 
-            Boolean localOverrideEnabled) {
+            @Value("${feature-toggle.local-override.enabled:false}")
+            Boolean localOverrideEnabled,
+            @Value("${feature-toggle.cache.ttl:30s}")
+            Duration cacheTtl,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            TaskExecutor refreshExecutor,
+            MeterRegistry meterRegistry) {
         this.ssmClient = ssmClient;
         this.globalWriteReviewEnabledParameter = globalWriteReviewEnabledParameter;
         this.localOverrideEnabled = localOverrideEnabled;
+        this.cacheTtl = cacheTtl;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("feature.toggle.staleness", this, FeatureToggleService::stalenessSeconds)
+                .description("Seconds since the global write-review toggle was last read from Parameter Store")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        if (!isLocalOverride()) {
+            refresh();
+        }
     }
 
     public boolean isGlobalWriteReviewEnabled() {
-        if (localOverrideEnabled != null && localOverrideEnabled) {
+        if (isLocalOverride()) {
             logger.info("Using local override: global write review enabled = true");
             return true;
         }
 
+        ToggleSnapshot current = snapshot.get();
+        if (current == null) {
+            // Only reachable before warm-up has run
+            return refresh().enabled();
+        }
+
+        if (current.isExpired(cacheTtl)) {
+            refreshAsync();
+        }
+        return current.enabled();
+    }
+
+    @Scheduled(fixedDelayString = "${feature-toggle.cache.refresh-interval-ms:15000}",
+            initialDelayString = "${feature-toggle.cache.refresh-interval-ms:15000}")
+    public void scheduledRefresh() {
+        if (!isLocalOverride()) {
+            refresh();
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshInFlight.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshInFlight.set(false);
+            logger.warn("Could not schedule feature toggle refresh: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the parameter from SSM and swaps it into the cache. On failure the previous value is kept.
+     */
+    ToggleSnapshot refresh() {
+        long started = System.nanoTime();
+        String outcome = "success";
         try {
             GetParameterRequest request = new GetParameterRequest()
                     .withName(globalWriteReviewEnabledParameter)
@@ -44,16 +134,57 @@ public class FeatureToggleService {
             String value = result.getParameter().getValue();
             boolean enabled = Boolean.parseBoolean(value);
             logger.debug("Global write review enabled: {}", enabled);
-            return enabled;
+            return store(enabled);
         } catch (ParameterNotFoundException e) {
-            logger.warn("Parameter {} not found in Parameter Store, defaulting to false", 
+            outcome = "not_found";
+            logger.warn("Parameter {} not found in Parameter Store, defaulting to false",
                     globalWriteReviewEnabledParameter);
-            return false;
+            return store(false);
         } catch (Exception e) {
-            logger.error("Error fetching parameter {} from Parameter Store, defaulting to false", 
+            outcome = "error";
+            ToggleSnapshot lastKnownGood = snapshot.get();
+            if (lastKnownGood != null) {
+                logger.error("Error fetching parameter {} from Parameter Store, keeping last known value {}",
+                        globalWriteReviewEnabledParameter, lastKnownGood.enabled(), e);
+                return lastKnownGood;
+            }
+            logger.error("Error fetching parameter {} from Parameter Store, defaulting to false",
                     globalWriteReviewEnabledParameter, e);
-            return false;
+            // Expired on arrival so the next request triggers another attempt
+            ToggleSnapshot fallback = new ToggleSnapshot(false, Instant.EPOCH);
+            snapshot.compareAndSet(null, fallback);
+            return fallback;
+        } finally {
+            Timer.builder("feature.toggle.refresh")
+                    .description("Latency of Parameter Store reads for the global write-review toggle")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         }
     }
-}
 
+    private ToggleSnapshot store(boolean enabled) {
+        ToggleSnapshot fresh = new ToggleSnapshot(enabled, Instant.now());
+        snapshot.set(fresh);
+        return fresh;
+    }
+
+    private double stalenessSeconds() {
+        ToggleSnapshot current = snapshot.get();
+        if (current == null || current.fetchedAt().equals(Instant.EPOCH)) {
+            return Double.NaN;
+        }
+        return Duration.between(current.fetchedAt(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    private boolean isLocalOverride() {
+        return localOverrideEnabled != null && localOverrideEnabled;
+    }
+
+    record ToggleSnapshot(boolean enabled, Instant fetchedAt) {
+
+        boolean isExpired(Duration ttl) {
+            return !Instant.now().isBefore(fetchedAt.plus(ttl));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.RatingRollupResponse;
+import com.booking.reviews.dto.ReviewStatsResponse;
+import com.booking.reviews.entity.ReviewStatsAggregate;
+import com.booking.reviews.repository.projection.RatingCount;
+import com.booking.reviews.repository.projection.RatingSummary;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Mutable accumulator of review counts per star rating. Used both to build deltas that are
+ * applied to the aggregate tables and to turn stored aggregates into API responses.
+ */
+public final class RatingTally {
+
+    public static final short MIN_RATING = 1;
+    public static final short MAX_RATING = 5;
+
+    private final long[] counts = new long[MAX_RATING];
+    private long ratingSum;
+    private LocalDateTime lastReviewAt;
+
+    public static RatingTally of(ReviewStatsAggregate stats) {
+        return of(stats.getRatingSum(), stats.getLastReviewAt(), stats.getRating1Count(), stats.getRating2Count(),
+                stats.getRating3Count(), stats.getRating4Count(), stats.getRating5Count());
+    }
+
+    /**
+     * Reads summed counters. Missing values, e.g. from a {@code SUM} over no rows, count as zero.
+     */
+    public static RatingTally of(RatingSummary summary) {
+        return of(summary.getRatingSum(), summary.getLastReviewAt(), summary.getRating1Count(),
+                summary.getRating2Count(), summary.getRating3Count(), summary.getRating4Count(),
+                summary.getRating5Count());
+    }
+
+    private static RatingTally of(Long ratingSum, LocalDateTime lastReviewAt, Long... counts) {
+        RatingTally tally = new RatingTally();
+        for (int i = 0; i < counts.length; i++) {
+            tally.counts[i] = orZero(counts[i]);
+        }
+        tally.ratingSum = orZero(ratingSum);
+        tally.lastReviewAt = lastReviewAt;
+        return tally;
+    }
+
+    public static RatingTally of(Iterable<? extends RatingCount> rows) {
+        RatingTally tally = new RatingTally();
+        for (RatingCount row : rows) {
+            tally.add(row.getRating(), row.getReviewCount(), row.getLastReviewAt());
+        }
+        return tally;
+    }
+
+    public RatingTally add(short rating, LocalDateTime reviewedAt) {
+        return add(rating, 1, reviewedAt);
+    }
+
+    public RatingTally add(short rating, long count, LocalDateTime reviewedAt) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new IllegalArgumentException("Rating out of range: " + rating);
+        }
+        counts[rating - 1] += count;
+        ratingSum += (long) rating * count;
+        if (reviewedAt != null && (lastReviewAt == null || reviewedAt.isAfter(lastReviewAt))) {
+            lastReviewAt = reviewedAt;
+        }
+        return this;
+    }
+
+    public RatingTally add(RatingTally other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        ratingSum += other.ratingSum;
+        if (other.lastReviewAt != null && (lastReviewAt == null || other.lastReviewAt.isAfter(lastReviewAt))) {
+            lastReviewAt = other.lastReviewAt;
+        }
+        return this;
+    }
+
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long count(short rating) {
+        return counts[rating - 1];
+    }
+
+    public long ratingSum() {
+        return ratingSum;
+    }
+
+    public LocalDateTime lastReviewAt() {
+        return lastReviewAt;
+    }
+
+    /**
+     * Average rating rounded to two decimal places, or {@code null} when there are no reviews.
+     */
+    public Double averageRating() {
+        long total = total();
+        if (total == 0) {
+            return null;
+        }
+        return Math.round((double) ratingSum / total * 100.0) / 100.0;
+    }
+
+    public Map<Short, Long> distribution() {
+        Map<Short, Long> distribution = new HashMap<>();
+        for (short rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            distribution.put(rating, counts[rating - 1]);
+        }
+        return distribution;
+    }
+
+    public boolean matches(ReviewStatsAggregate stats) {
+        return stats.getTotalReviews() == total()
+                && stats.getRatingSum() == ratingSum
+                && stats.getRating1Count() == counts[0]
+                && stats.getRating2Count() == counts[1]
+                && stats.getRating3Count() == counts[2]
+                && stats.getRating4Count() == counts[3]
+                && stats.getRating5Count() == counts[4]
+                && Objects.equals(stats.getLastReviewAt(), lastReviewAt);
+    }
+
+    public void copyTo(ReviewStatsAggregate stats) {
+        stats.setTotalReviews(total());
+        stats.setRatingSum(ratingSum);
+        stats.setRating1Count(counts[0]);
+        stats.setRating2Count(counts[1]);
+        stats.setRating3Count(counts[2]);
+        stats.setRating4Count(counts[3]);
+        stats.setRating5Count(counts[4]);
+        stats.setLastReviewAt(lastReviewAt);
+    }
+
+    public ReviewStatsResponse toStatsResponse(Long roomId) {
+        return ReviewStatsResponse.builder()
+                .roomId(roomId)
+                .totalReviews(total())
+                .averageRating(averageRating())
+                .ratingDistribution(distribution())
+                .build();
+    }
+
+    public RatingRollupResponse toRollupResponse(String level, Long id) {
+        return RatingRollupResponse.builder()
+                .level(level)
+                .id(id)
+                .totalReviews(total())
+                .averageRating(averageRating())
+                .ratingDistribution(distribution())
+                .build();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
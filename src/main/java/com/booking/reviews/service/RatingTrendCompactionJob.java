@@ -0,0 +1,96 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.entity.RatingTrendBucket;
+import com.booking.reviews.entity.TrendGranularity;
+import com.booking.reviews.repository.RatingTrendBucketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Folds day buckets older than the day retention into week and month buckets and deletes them,
+ * so {@code rating_trend_buckets} grows by one row per room and hotel per week and month instead
+ * of per day. Each day is compacted in its own transaction; a day is only deleted together with
+ * the increments it produced, so a failed run can simply be repeated.
+ *
+ * <p>Every instance runs the job at the same time. The day rows are locked before they are folded,
+ * so a second instance waits for the first to commit and then finds nothing left to fold.
+ */
+@Component
+@ConditionalOnProperty(name = "reviews.trends.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class RatingTrendCompactionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingTrendCompactionJob.class);
+
+    private final RatingTrendBucketRepository ratingTrendBucketRepository;
+    private final RatingTrendService ratingTrendService;
+    private final TransactionTemplate transactionTemplate;
+
+    public RatingTrendCompactionJob(
+            RatingTrendBucketRepository ratingTrendBucketRepository,
+            RatingTrendService ratingTrendService,
+            PlatformTransactionManager transactionManager) {
+        this.ratingTrendBucketRepository = ratingTrendBucketRepository;
+        this.ratingTrendService = ratingTrendService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${reviews.trends.compaction.cron:0 15 4 * * *}")
+    public void runScheduled() {
+        compact(LocalDate.now());
+    }
+
+    /**
+     * Compacts every day bucket older than the day retention, counted back from {@code today}.
+     *
+     * @return number of days compacted
+     */
+    public int compact(LocalDate today) {
+        long started = System.currentTimeMillis();
+        LocalDate cutoff = today.minusDays(ratingTrendService.getDayRetentionDays());
+
+        List<LocalDate> days = ratingTrendBucketRepository.findBucketStartsBefore(TrendGranularity.DAY, cutoff);
+        for (LocalDate day : days) {
+            transactionTemplate.executeWithoutResult(status -> compactDay(day));
+        }
+
+        logger.info("Rating trend compaction finished: {} days before {} compacted in {} ms",
+                days.size(), cutoff, System.currentTimeMillis() - started);
+        return days.size();
+    }
+
+    void compactDay(LocalDate day) {
+        List<RatingTrendBucket> buckets =
+                ratingTrendBucketRepository.findByGranularityAndBucketStartForUpdate(TrendGranularity.DAY, day);
+        if (buckets.isEmpty()) {
+            logger.debug("Day buckets of {} already compacted", day);
+            return;
+        }
+
+        Map<RatingTrendBucket.Key, RatingTally> deltas = new TreeMap<>();
+        for (RatingTrendBucket bucket : buckets) {
+            for (TrendGranularity granularity : List.of(TrendGranularity.WEEK, TrendGranularity.MONTH)) {
+                deltas.put(new RatingTrendBucket.Key(bucket.getScope(), bucket.getScopeId(), granularity,
+                        granularity.bucketStart(day)), RatingTally.of(bucket));
+            }
+        }
+        // Only fold what this transaction removes; the locks make that every row it read
+        int deleted = ratingTrendBucketRepository.deleteByGranularityAndBucketStart(TrendGranularity.DAY, day);
+        if (deleted != buckets.size()) {
+            throw new IllegalStateException("Locked " + buckets.size() + " day buckets of " + day
+                    + " but deleted " + deleted);
+        }
+        deltas.forEach(ratingTrendService::addToBucket);
+
+        logger.debug("Compacted {} day buckets of {}", buckets.size(), day);
+    }
+}
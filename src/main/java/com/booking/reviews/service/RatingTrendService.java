@@ -0,0 +1,172 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.RatingTrendPoint;
+import com.booking.reviews.dto.RatingTrendResponse;
+import com.booking.reviews.entity.RatingTrendBucket;
+import com.booking.reviews.entity.Review;
+import com.booking.reviews.entity.TrendGranularity;
+import com.booking.reviews.exception.ResourceNotFoundException;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.RatingTrendBucketRepository;
+import com.booking.reviews.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rating trends per room and hotel, read from {@code rating_trend_buckets} only. Reviews are
+ * counted into day buckets as they are written; {@link RatingTrendCompactionJob} later folds
+ * day buckets into week and month buckets. A week or month series therefore sums its compacted
+ * buckets with the day buckets that have not been compacted yet.
+ */
+@Service
+public class RatingTrendService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingTrendService.class);
+
+    private final RatingTrendBucketRepository ratingTrendBucketRepository;
+    private final RoomRepository roomRepository;
+    private final HotelRepository hotelRepository;
+    private final int dayRetentionDays;
+
+    public RatingTrendService(
+            RatingTrendBucketRepository ratingTrendBucketRepository,
+            RoomRepository roomRepository,
+            HotelRepository hotelRepository,
+            @Value("${reviews.trends.day-retention-days:90}") int dayRetentionDays) {
+        this.ratingTrendBucketRepository = ratingTrendBucketRepository;
+        this.roomRepository = roomRepository;
+        this.hotelRepository = hotelRepository;
+        this.dayRetentionDays = dayRetentionDays;
+    }
+
+    /**
+     * Days that day buckets are kept before they are compacted.
+     */
+    public int getDayRetentionDays() {
+        return dayRetentionDays;
+    }
+
+    /**
+     * Counts new reviews into the day buckets of their room and hotel, in the writing transaction.
+     * Concurrent writers of a bucket that does not exist yet race to insert it; the loser adds its
+     * counts to the winner's bucket.
+     *
+     * @param hotelIds hotel ID of every room in {@code reviews}
+     */
+    public void recordReviews(List<Review> reviews, Map<Long, Long> hotelIds) {
+        Map<RatingTrendBucket.Key, RatingTally> deltas = new TreeMap<>();
+        for (Review review : reviews) {
+            LocalDate day = review.getCreatedAt().toLocalDate();
+            deltas.computeIfAbsent(new RatingTrendBucket.Key(RatingTrendBucket.ROOM, review.getRoomId(),
+                            TrendGranularity.DAY, day), key -> new RatingTally())
+                    .add(review.getRating(), review.getCreatedAt());
+            deltas.computeIfAbsent(new RatingTrendBucket.Key(RatingTrendBucket.HOTEL, hotelIds.get(review.getRoomId()),
+                            TrendGranularity.DAY, day), key -> new RatingTally())
+                    .add(review.getRating(), review.getCreatedAt());
+        }
+        // Key order, so concurrent imports lock bucket rows consistently
+        deltas.forEach(this::addToBucket);
+    }
+
+    /**
+     * Adds counts to a bucket, creating it when it does not exist yet.
+     */
+    void addToBucket(RatingTrendBucket.Key key, RatingTally delta) {
+        if (incrementBucket(key, delta) > 0) {
+            return;
+        }
+
+        RatingTrendBucket bucket = RatingTrendBucket.builder()
+                .scope(key.getScope())
+                .scopeId(key.getScopeId())
+                .granularity(key.getGranularity())
+                .bucketStart(key.getBucketStart())
+                .build();
+        delta.copyTo(bucket);
+        if (!ratingTrendBucketRepository.insertIfAbsent(bucket)) {
+            // Another transaction created the bucket first
+            incrementBucket(key, delta);
+        }
+    }
+
+    private int incrementBucket(RatingTrendBucket.Key key, RatingTally delta) {
+        return ratingTrendBucketRepository.incrementCounts(key.getScope(), key.getScopeId(),
+                key.getGranularity(), key.getBucketStart(),
+                delta.total(),
+                delta.ratingSum(),
+                delta.count((short) 1),
+                delta.count((short) 2),
+                delta.count((short) 3),
+                delta.count((short) 4),
+                delta.count((short) 5),
+                delta.lastReviewAt());
+    }
+
+    @Transactional(readOnly = true)
+    public RatingTrendResponse getRoomTrend(Long roomId, TrendGranularity granularity, LocalDate from, LocalDate to) {
+        logger.debug("Fetching {} rating trend for roomId: {}, from: {}, to: {}", granularity, roomId, from, to);
+
+        roomRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
+
+        return getTrend(RatingTrendBucket.ROOM, roomId, granularity, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public RatingTrendResponse getHotelTrend(Long hotelId, TrendGranularity granularity, LocalDate from, LocalDate to) {
+        logger.debug("Fetching {} rating trend for hotelId: {}, from: {}, to: {}", granularity, hotelId, from, to);
+
+        hotelRepository.findByHotelId(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found: " + hotelId));
+
+        return getTrend(RatingTrendBucket.HOTEL, hotelId, granularity, from, to);
+    }
+
+    private RatingTrendResponse getTrend(String scope, Long scopeId, TrendGranularity granularity,
+                                         LocalDate from, LocalDate to) {
+        LocalDate first = granularity.bucketStart(from);
+        LocalDate last = granularity.bucketStart(to);
+        List<TrendGranularity> granularities = granularity == TrendGranularity.DAY
+                ? List.of(TrendGranularity.DAY)
+                : List.of(granularity, TrendGranularity.DAY);
+
+        // Day rows are read to the end of the last bucket, so the final week or month includes all
+        // of its uncompacted days
+        LocalDate lastRow = granularity == TrendGranularity.DAY ? last : granularity.next(last).minusDays(1);
+        Map<LocalDate, RatingTally> tallies = new HashMap<>();
+        for (RatingTrendBucket bucket : ratingTrendBucketRepository.findSeries(scope, scopeId, granularities, first, lastRow)) {
+            tallies.computeIfAbsent(granularity.bucketStart(bucket.getBucketStart()), key -> new RatingTally())
+                    .add(RatingTally.of(bucket));
+        }
+
+        List<RatingTrendPoint> points = new ArrayList<>();
+        for (LocalDate start = first; !start.isAfter(last); start = granularity.next(start)) {
+            RatingTally tally = tallies.getOrDefault(start, new RatingTally());
+            points.add(RatingTrendPoint.builder()
+                    .bucketStart(start)
+                    .totalReviews(tally.total())
+                    .averageRating(tally.averageRating())
+                    .ratingDistribution(tally.distribution())
+                    .build());
+        }
+
+        return RatingTrendResponse.builder()
+                .level(scope)
+                .id(scopeId)
+                .granularity(granularity.name())
+                .from(from)
+                .to(to)
+                .points(points)
+                .build();
+    }
+}
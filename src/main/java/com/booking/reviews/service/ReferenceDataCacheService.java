@@ -0,0 +1,89 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.config.CacheConfig;
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelType;
+import com.booking.reviews.entity.ReferenceDataChangedEvent;
+import com.booking.reviews.entity.Room;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidation hooks for the hotel, hotel type and room near-caches. Entity writes arrive as
+ * {@link ReferenceDataChangedEvent}s; data changed outside the application (SQL consoles,
+ * migrations) has to be evicted explicitly or waits for the TTL.
+ */
+@Service
+public class ReferenceDataCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCacheService.class);
+
+    private final CacheManager cacheManager;
+
+    public ReferenceDataCacheService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.entity() instanceof Hotel hotel) {
+            evictHotel(hotel.getHotelId());
+        } else if (event.entity() instanceof HotelType hotelType) {
+            evictHotelType(hotelType.getHotelTypeId());
+        } else if (event.entity() instanceof Room room) {
+            evictRoom(room.getRoomId());
+        }
+    }
+
+    public void evictHotel(Long hotelId) {
+        evict(CacheConfig.HOTELS, hotelId);
+    }
+
+    public void evictHotelType(Long hotelTypeId) {
+        evict(CacheConfig.HOTEL_TYPES, hotelTypeId);
+    }
+
+    public void evictRoom(Long roomId) {
+        evict(CacheConfig.ROOMS, roomId);
+    }
+
+    public void evictAll() {
+        for (String name : new String[] {CacheConfig.HOTELS, CacheConfig.HOTEL_TYPES, CacheConfig.ROOMS}) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        logger.info("Evicted all reference data caches");
+    }
+
+    private void evict(String cacheName, Long id) {
+        if (id == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        // Evict when the writing transaction ends, otherwise a concurrent reader could re-cache
+        // the old row between the eviction and the commit.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(id);
+                }
+            });
+        } else {
+            cache.evict(id);
+        }
+        logger.debug("Evicting {} from cache {}", id, cacheName);
+    }
+}
@@ -0,0 +1,47 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor: the sort order plus the sort key of the last row returned,
+ * i.e. {@code (createdAt, reviewId)} or {@code (rating, createdAt, reviewId)}.
+ */
+public record ReviewCursor(ReviewSortOrder order, Short rating, LocalDateTime createdAt, Long reviewId) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static ReviewCursor after(ReviewSortOrder order, ReviewResponse last) {
+        return new ReviewCursor(order, last.getRating(), last.getCreatedAt(), last.getReviewId());
+    }
+
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new ReviewCursor(
+                    ReviewSortOrder.valueOf(parts[1]),
+                    Short.valueOf(parts[2]),
+                    LocalDateTime.parse(parts[3]),
+                    Long.valueOf(parts[4]));
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, order.name(), String.valueOf(rating),
+                createdAt.toString(), String.valueOf(reviewId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.booking.reviews.service;
+
+import java.util.Locale;
+
+/**
+ * Output formats of the review export, parsed from the {@code format} request parameter.
+ */
+public enum ReviewExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ReviewExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * @return the format, or {@code null} when the value is not a supported format
+     */
+    public static ReviewExportFormat parse(String format) {
+        if (format == null || format.isEmpty()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,132 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes reviews straight from a database cursor to the response body. Rows are DTO projections,
+ * so nothing accumulates in the persistence context and heap use stays flat regardless of size.
+ */
+@Service
+public class ReviewExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewExportService.class);
+
+    /** Rows written between flushes, so the client starts receiving data immediately. */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final String CSV_HEADER =
+            "reviewId,roomId,bookingId,rating,comment,reviewerEmail,reviewerName,createdAt";
+
+    /** Bounds used for an open-ended date range, so the query always has a prunable range. */
+    static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final ReviewRepository reviewRepository;
+    private final ObjectMapper objectMapper;
+
+    public ReviewExportService(ReviewRepository reviewRepository, ObjectMapper objectMapper) {
+        this.reviewRepository = reviewRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exports the matching reviews ordered by review ID. All filters are optional.
+     *
+     * @param from inclusive lower bound on {@code createdAt}
+     * @param to   exclusive upper bound on {@code createdAt}
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(Long hotelId, Long roomId, LocalDateTime from, LocalDateTime to,
+                       ReviewExportFormat format, OutputStream out) throws IOException {
+        logger.info("Exporting reviews as {} - hotelId: {}, roomId: {}, from: {}, to: {}",
+                format, hotelId, roomId, from, to);
+        long started = System.currentTimeMillis();
+
+        long rows;
+        try (Stream<ReviewResponse> reviews = reviewRepository.streamResponses(hotelId, roomId,
+                from != null ? from : EARLIEST, to != null ? to : LATEST)) {
+            rows = format == ReviewExportFormat.CSV
+                    ? writeCsv(reviews.iterator(), out)
+                    : writeNdjson(reviews.iterator(), out);
+        }
+
+        logger.info("Exported {} reviews in {} ms", rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<ReviewResponse> reviews, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (SequenceWriter sequence = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer)) {
+            while (reviews.hasNext()) {
+                sequence.write(reviews.next());
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    sequence.flush();
+                }
+            }
+            if (rows > 0) {
+                writer.write('\n');
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<ReviewResponse> reviews, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            while (reviews.hasNext()) {
+                ReviewResponse review = reviews.next();
+                writer.write(String.valueOf(review.getReviewId()));
+                writer.write(',');
+                writer.write(String.valueOf(review.getRoomId()));
+                writer.write(',');
+                writer.write(String.valueOf(review.getBookingId()));
+                writer.write(',');
+                writer.write(String.valueOf(review.getRating()));
+                writer.write(',');
+                writer.write(csvField(review.getComment()));
+                writer.write(',');
+                writer.write(csvField(review.getReviewerEmail()));
+                writer.write(',');
+                writer.write(csvField(review.getReviewerName()));
+                writer.write(',');
+                writer.write(review.getCreatedAt() != null ? review.getCreatedAt().toString() : "");
+                writer.write('\n');
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        return rows;
+    }
+
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
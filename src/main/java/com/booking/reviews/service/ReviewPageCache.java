@@ -0,0 +1,173 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.config.PrimaryReads;
+import com.booking.reviews.dto.ReviewResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized first pages of the room review listing. A hit returns the JSON bytes, and a gzipped
+ * copy for larger pages, without touching the database or Jackson.
+ *
+ * <p>Every room has a generation, and pages are cached under the generation that was current
+ * before they were read. A committed review write moves its room to a new generation, so pages
+ * read before the commit are never served again, whichever instance wrote them into the cache.
+ * Only rooms written to on this instance have a tracked generation; all other rooms, including
+ * ones that do not exist, are at the initial generation.
+ * Writes handled by other instances only reach this cache when its pages expire.
+ *
+ * <p>For the read-your-writes window after a write, the room's pages are read from the primary,
+ * so a lagging read replica cannot put the old page back under the new generation.
+ */
+@Service
+public class ReviewPageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPageCache.class);
+
+    public static final String CACHE_NAME = "reviewPages";
+
+    private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxPages;
+    private final int maxPageSize;
+    private final int gzipMinBytes;
+    private final long primaryReadMillis;
+    private final Cache<PageKey, CachedReviewPage> pages;
+    private final Cache<Long, RoomGeneration> generations;
+    private final AtomicLong nextGeneration = new AtomicLong();
+
+    public ReviewPageCache(
+            ReviewService reviewService,
+            ObjectMapper objectMapper,
+            @Value("${reviews.page-cache.enabled:true}") boolean enabled,
+            @Value("${reviews.page-cache.max-pages:3}") int maxPages,
+            @Value("${reviews.page-cache.max-page-size:50}") int maxPageSize,
+            @Value("${reviews.page-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${reviews.page-cache.ttl:5m}") Duration ttl,
+            @Value("${reviews.page-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+            @Value("${read-replicas.read-your-writes-window:5s}") Duration primaryReadWindow,
+            MeterRegistry meterRegistry) {
+        this.reviewService = reviewService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.gzipMinBytes = gzipMinBytes;
+        this.primaryReadMillis = primaryReadWindow.toMillis();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((PageKey key, CachedReviewPage page) -> page.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Outlives every page cached under it: pages expire after write, and each page read or
+        // write touches its room's generation. Not bounded by size, since an evicted generation
+        // must not come back while pages cached under it are still alive. Only writes add
+        // entries, so it holds the rooms written to within the last two TTLs.
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(ttl.multipliedBy(2))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+    }
+
+    /**
+     * Whether a page of the offset listing is served through this cache. Only the first pages
+     * are hot enough to be worth the memory.
+     */
+    public boolean isCacheable(int page, int size) {
+        return enabled && page >= 0 && page < maxPages && size > 0 && size <= maxPageSize;
+    }
+
+    /**
+     * Same page as {@link ReviewService#getReviewsByRoomId}, serialized. Concurrent misses for one
+     * page wait for a single database read.
+     */
+    public CachedReviewPage getReviewsByRoomId(Long roomId, int page, int size, String sortBy) {
+        ReviewSortOrder order = ReviewSortOrder.parse(sortBy);
+        // Read the generation before the page, so a write committed meanwhile discards the result
+        RoomGeneration generation = generationOf(roomId);
+        PageKey key = new PageKey(roomId, generation.id(), order, page, size);
+        return pages.get(key, k -> generation.writtenWithin(primaryReadMillis)
+                ? PrimaryReads.call(() -> load(roomId, page, size, sortBy))
+                : load(roomId, page, size, sortBy));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewsCreated(ReviewsCreatedEvent event) {
+        for (ReviewsCreatedEvent.RoomDelta room : event.rooms()) {
+            generations.put(room.roomId(),
+                    new RoomGeneration(nextGeneration.incrementAndGet(), System.currentTimeMillis()));
+        }
+    }
+
+    private RoomGeneration generationOf(Long roomId) {
+        RoomGeneration generation = generations.getIfPresent(roomId);
+        return generation != null ? generation : RoomGeneration.INITIAL;
+    }
+
+    /**
+     * Number of rooms with a tracked generation.
+     */
+    long trackedRooms() {
+        generations.cleanUp();
+        return generations.estimatedSize();
+    }
+
+    private CachedReviewPage load(Long roomId, int page, int size, String sortBy) {
+        logger.debug("Review page cache miss for roomId: {}, page: {}, size: {}, sortBy: {}", roomId, page, size, sortBy);
+
+        Page<ReviewResponse> reviews = reviewService.getReviewsByRoomId(roomId, page, size, sortBy);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(reviews);
+            return new CachedReviewPage(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param writtenAt when a write moved the room to this generation, 0 when none did
+     */
+    private record RoomGeneration(long id, long writtenAt) {
+
+        /** Generation of a room with no write seen; written generations start at 1. */
+        static final RoomGeneration INITIAL = new RoomGeneration(0L, 0L);
+
+        boolean writtenWithin(long millis) {
+            return writtenAt > 0 && System.currentTimeMillis() - writtenAt < millis;
+        }
+    }
+
+    private record PageKey(Long roomId, long generation, ReviewSortOrder order, int page, int size) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.booking.reviews.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the monthly partitions of {@code reviews} (see {@code V2__partition_reviews.sql}) ahead of
+ * the clock and, when a retention is configured, detaches the oldest ones.
+ * <p>
+ * Partitions for the current month and the premake months after it are created when missing, so
+ * new reviews never land in the default partition. A detached partition stays in the database as
+ * a plain table of the same name, to be archived or dropped; its reviews disappear from listings,
+ * exports, search and, after the next reconciliation, from the review stats. Their bookings still
+ * cannot be reviewed again.
+ * <p>
+ * Every statement is idempotent or fails harmlessly, so instances running the job at the same time
+ * do not need to coordinate. PostgreSQL only; without a partitioned {@code reviews} table the job
+ * does nothing.
+ */
+@Component
+@ConditionalOnProperty(name = "reviews.partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class ReviewPartitionMaintenanceJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPartitionMaintenanceJob.class);
+
+    static final String PARTITION_PREFIX = "reviews_p";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+
+    public ReviewPartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${reviews.partitions.premake-months:3}") int premakeMonths,
+            @Value("${reviews.partitions.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /** Covers deployments that were down when the scheduled run was due. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        runScheduled();
+    }
+
+    @Scheduled(cron = "${reviews.partitions.maintenance.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        try {
+            maintain(YearMonth.now());
+        } catch (DataAccessException e) {
+            logger.error("Review partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Creates the missing partitions from {@code current} through the premake months, then detaches
+     * partitions of months before the retention window.
+     *
+     * @return number of partitions created or detached
+     */
+    public int maintain(YearMonth current) {
+        if (!isPartitioned()) {
+            logger.warn("Review partition maintenance skipped: reviews is not a partitioned table");
+            return 0;
+        }
+
+        Set<YearMonth> attached = attachedMonths();
+        int changed = 0;
+
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!attached.contains(month) && createPartition(month)) {
+                changed++;
+            }
+        }
+
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (YearMonth month : attached) {
+                if (month.isBefore(oldestKept) && detachPartition(month)) {
+                    changed++;
+                }
+            }
+        }
+
+        logger.info("Review partition maintenance finished: {} partitions attached before, {} created or detached",
+                attached.size(), changed);
+        return changed;
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static Optional<YearMonth> monthOf(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('reviews'))",
+                Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private Set<YearMonth> attachedMonths() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = to_regclass('reviews')",
+                String.class);
+        Set<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            monthOf(name).ifPresent(months::add);
+        }
+        return months;
+    }
+
+    private boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF reviews " +
+                    "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            logger.info("Created review partition {}", name);
+            return true;
+        } catch (DataAccessException e) {
+            // Typically rows for the month already sit in the default partition; they have to be
+            // moved out by hand before the partition can be created
+            logger.error("Could not create review partition {}", name, e);
+            return false;
+        }
+    }
+
+    private boolean detachPartition(YearMonth month) {
+        String name = partitionName(month);
+        try {
+            jdbcTemplate.execute("ALTER TABLE reviews DETACH PARTITION " + name);
+            logger.info("Detached review partition {}", name);
+            return true;
+        } catch (DataAccessException e) {
+            logger.error("Could not detach review partition {}", name, e);
+            return false;
+        }
+    }
+}
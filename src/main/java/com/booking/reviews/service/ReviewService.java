@@ -1,36 +1,74 @@
 package com.booking.reviews.service;
 
+import com.booking.reviews.dto.BulkReviewItemResult;
+import com.booking.reviews.dto.BulkReviewResponse;
+import com.booking.reviews.dto.RatingRollupResponse;
+import com.booking.reviews.dto.ReviewCursorPageResponse;
 import com.booking.reviews.dto.ReviewRequest;
 import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.dto.ReviewSearchHit;
+import com.booking.reviews.dto.ReviewSearchResponse;
 import com.booking.reviews.dto.ReviewStatsResponse;
 import com.booking.reviews.entity.*;
 import com.booking.reviews.exception.DuplicateReviewException;
 import com.booking.reviews.exception.FeatureDisabledException;
+import com.booking.reviews.exception.InvalidCursorException;
 import com.booking.reviews.exception.ResourceNotFoundException;
 import com.booking.reviews.repository.*;
+import com.booking.reviews.repository.projection.ReviewTarget;
+import com.booking.reviews.repository.projection.RoomRatingCount;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 public class ReviewService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewService.class);
 
+    /** SQLSTATE of a unique constraint violation, on PostgreSQL and H2 alike. */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    /** Bulk imports that keep colliding with concurrent reviews of their bookings give up after this. */
+    private static final int BULK_IMPORT_ATTEMPTS = 3;
+
     private final ReviewRepository reviewRepository;
     private final RoomRepository roomRepository;
     private final HotelRepository hotelRepository;
     private final HotelTypeRepository hotelTypeRepository;
     private final BookingRepository bookingRepository;
+    private final RoomReviewStatsRepository roomReviewStatsRepository;
+    private final HotelReviewStatsRepository hotelReviewStatsRepository;
+    private final RatingTrendService ratingTrendService;
     private final FeatureToggleService featureToggleService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public ReviewService(
             ReviewRepository reviewRepository,
@@ -38,41 +76,52 @@ public class ReviewService {
             HotelRepository hotelRepository,
             HotelTypeRepository hotelTypeRepository,
             BookingRepository bookingRepository,
-            FeatureToggleService featureToggleService) {
+            RoomReviewStatsRepository roomReviewStatsRepository,
+            HotelReviewStatsRepository hotelReviewStatsRepository,
+            RatingTrendService ratingTrendService,
+            FeatureToggleService featureToggleService,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
         this.reviewRepository = reviewRepository;
         this.roomRepository = roomRepository;
         this.hotelRepository = hotelRepository;
         this.hotelTypeRepository = hotelTypeRepository;
         this.bookingRepository = bookingRepository;
+        this.roomReviewStatsRepository = roomReviewStatsRepository;
+        this.hotelReviewStatsRepository = hotelReviewStatsRepository;
+        this.ratingTrendService = ratingTrendService;
         this.featureToggleService = featureToggleService;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Transactional
     public ReviewResponse createReview(ReviewRequest request) {
         logger.info("Creating review for roomId: {}, bookingId: {}", request.getRoomId(), request.getBookingId());
 
-        Room room = roomRepository.findByRoomId(request.getRoomId())
+        // Room, booking, hotel and hotel type in one round trip; checked in the order they used to be loaded
+        ReviewTarget target = roomRepository.findReviewTarget(request.getRoomId(), request.getBookingId())
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + request.getRoomId()));
 
-        Booking booking = bookingRepository.findByBookingId(request.getBookingId())
-                .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + request.getBookingId()));
+        if (target.getBookingId() == null) {
+            throw new ResourceNotFoundException("Booking not found: " + request.getBookingId());
+        }
 
-        if (!booking.getRoomId().equals(request.getRoomId())) {
+        if (!target.getBookingRoomId().equals(request.getRoomId())) {
             throw new ResourceNotFoundException("Booking does not belong to the specified room");
         }
 
-        if (!booking.getGuestEmail().equalsIgnoreCase(request.getReviewerEmail())) {
+        if (!target.getGuestEmail().equalsIgnoreCase(request.getReviewerEmail())) {
             throw new ResourceNotFoundException("Reviewer email does not match booking guest email");
         }
 
-        if (reviewRepository.existsByBookingId(request.getBookingId())) {
-            throw new DuplicateReviewException("A review already exists for booking: " + request.getBookingId());
+        if (target.getHotelId() == null) {
+            throw new ResourceNotFoundException("Hotel not found: " + target.getRoomHotelId());
         }
 
-        Hotel hotel = hotelRepository.findByHotelId(room.getHotelId())
-                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found: " + room.getHotelId()));
-
-        checkWriteReviewEnabled(hotel.getHotelTypeId());
+        checkWriteReviewEnabled(target.getHotelTypeId(), target.getReviewEnabled());
 
         Review review = Review.builder()
                 .roomId(request.getRoomId())
@@ -81,10 +130,173 @@ public class ReviewService {
                 .comment(request.getComment())
                 .build();
 
-        Review savedReview = reviewRepository.save(review);
+        Review savedReview = insertReview(review);
         logger.info("Review created successfully with id: {}", savedReview.getReviewId());
 
-        return mapToResponse(savedReview, booking);
+        RatingTally delta = new RatingTally().add(savedReview.getRating(), savedReview.getCreatedAt());
+        recordRoomStats(savedReview.getRoomId(), delta);
+        recordHotelStats(target.getHotelId(), target.getHotelTypeId(), delta);
+        ratingTrendService.recordReviews(List.of(savedReview), Map.of(savedReview.getRoomId(), target.getHotelId()));
+        eventPublisher.publishEvent(new ReviewsCreatedEvent(List.of(new ReviewsCreatedEvent.RoomDelta(
+                savedReview.getRoomId(), target.getHotelId(), target.getHotelTypeId(), delta))));
+
+        return mapToResponse(savedReview, target.getGuestEmail(), target.getGuestName());
+    }
+
+    /**
+     * Inserts the review immediately rather than at commit. There is no separate duplicate check:
+     * the unique key on {@code booking_id} decides, in the same statement, whether this booking was
+     * already reviewed, including by a concurrent request that committed first.
+     */
+    private Review insertReview(Review review) {
+        try {
+            return reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateReviewException("A review already exists for booking: " + review.getBookingId());
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        // The generated review ID never collides, so the only unique key an insert can hit is booking_id
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+                && UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+    }
+
+    /**
+     * Imports many reviews in one transaction. Rooms, bookings, hotels, hotel types and existing
+     * reviews are loaded with one query each for the whole batch, and the accepted reviews are
+     * inserted with JDBC batching. Items that fail validation are reported individually with the
+     * same codes and messages as {@link #createReview} and do not affect the others.
+     * <p>
+     * A booking reviewed by a concurrent request after the existing reviews were loaded makes the
+     * batch insert hit the unique key, which rolls back the whole transaction. The import then runs
+     * again in a new transaction, where that booking is reported as {@code DUPLICATE_REVIEW}. Runs
+     * its own transaction, so it must not be called from inside another one.
+     */
+    public BulkReviewResponse createReviews(List<ReviewRequest> requests) {
+        logger.info("Importing {} reviews", requests.size());
+
+        if (!featureToggleService.isGlobalWriteReviewEnabled()) {
+            logger.warn("Write review feature is globally disabled");
+            throw new FeatureDisabledException("Reviews are currently disabled globally");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> importReviews(requests));
+            } catch (DataIntegrityViolationException e) {
+                if (!isUniqueViolation(e) || attempt == BULK_IMPORT_ATTEMPTS) {
+                    throw e;
+                }
+                logger.info("Bulk import collided with a concurrent review of one of its bookings, retrying");
+            }
+        }
+    }
+
+    private BulkReviewResponse importReviews(List<ReviewRequest> requests) {
+        Set<Long> roomIds = new HashSet<>();
+        Set<Long> bookingIds = new HashSet<>();
+        for (ReviewRequest request : requests) {
+            if (request != null && request.getRoomId() != null && request.getBookingId() != null) {
+                roomIds.add(request.getRoomId());
+                bookingIds.add(request.getBookingId());
+            }
+        }
+
+        Map<Long, Room> rooms = new HashMap<>();
+        roomRepository.findAllById(roomIds).forEach(room -> rooms.put(room.getRoomId(), room));
+        Map<Long, Booking> bookings = new HashMap<>();
+        bookingRepository.findAllById(bookingIds).forEach(booking -> bookings.put(booking.getBookingId(), booking));
+        Map<Long, Hotel> hotels = new HashMap<>();
+        hotelRepository.findAllById(rooms.values().stream().map(Room::getHotelId).distinct().toList())
+                .forEach(hotel -> hotels.put(hotel.getHotelId(), hotel));
+        Map<Long, HotelType> hotelTypes = new HashMap<>();
+        hotelTypeRepository.findAllById(hotels.values().stream().map(Hotel::getHotelTypeId).distinct().toList())
+                .forEach(hotelType -> hotelTypes.put(hotelType.getHotelTypeId(), hotelType));
+        Set<Long> reviewedBookingIds = bookingIds.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(reviewRepository.findReviewedBookingIds(bookingIds));
+
+        BulkReviewItemResult[] results = new BulkReviewItemResult[requests.size()];
+        List<Review> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ReviewRequest request = requests.get(i);
+            String violations = validationMessage(request);
+            if (violations != null) {
+                results[i] = BulkReviewItemResult.failed(i, "VALIDATION_ERROR", violations);
+                continue;
+            }
+
+            try {
+                checkImportable(request, rooms, bookings, hotels, hotelTypes, reviewedBookingIds);
+            } catch (ResourceNotFoundException e) {
+                results[i] = BulkReviewItemResult.failed(i, "RESOURCE_NOT_FOUND", e.getMessage());
+                continue;
+            } catch (DuplicateReviewException e) {
+                results[i] = BulkReviewItemResult.failed(i, "DUPLICATE_REVIEW", e.getMessage());
+                continue;
+            } catch (FeatureDisabledException e) {
+                results[i] = BulkReviewItemResult.failed(i, "FEATURE_DISABLED", e.getMessage());
+                continue;
+            }
+
+            // Later items for the same booking are duplicates of this one
+            reviewedBookingIds.add(request.getBookingId());
+            accepted.add(Review.builder()
+                    .roomId(request.getRoomId())
+                    .bookingId(request.getBookingId())
+                    .rating(request.getRating())
+                    .comment(request.getComment())
+                    .build());
+            acceptedIndexes.add(i);
+        }
+
+        // Flushed here so a booking reviewed concurrently fails the insert before any aggregate is touched
+        List<Review> saved = reviewRepository.saveAllAndFlush(accepted);
+
+        Map<Long, RatingTally> roomDeltas = new HashMap<>();
+        Map<Long, RatingTally> hotelDeltas = new HashMap<>();
+        for (int i = 0; i < saved.size(); i++) {
+            Review review = saved.get(i);
+            Long hotelId = rooms.get(review.getRoomId()).getHotelId();
+            roomDeltas.computeIfAbsent(review.getRoomId(), id -> new RatingTally())
+                    .add(review.getRating(), review.getCreatedAt());
+            hotelDeltas.computeIfAbsent(hotelId, id -> new RatingTally())
+                    .add(review.getRating(), review.getCreatedAt());
+
+            int index = acceptedIndexes.get(i);
+            results[index] = BulkReviewItemResult.created(index,
+                    mapToResponse(review, bookings.get(review.getBookingId())));
+        }
+        // One aggregate update per room and hotel, in key order so concurrent imports lock rows consistently
+        new TreeMap<>(roomDeltas).forEach(this::recordRoomStats);
+        new TreeMap<>(hotelDeltas).forEach((hotelId, delta) ->
+                recordHotelStats(hotelId, hotels.get(hotelId).getHotelTypeId(), delta));
+        if (!saved.isEmpty()) {
+            Map<Long, Long> hotelIds = new HashMap<>();
+            roomDeltas.keySet().forEach(roomId -> hotelIds.put(roomId, rooms.get(roomId).getHotelId()));
+            ratingTrendService.recordReviews(saved, hotelIds);
+        }
+        if (!roomDeltas.isEmpty()) {
+            List<ReviewsCreatedEvent.RoomDelta> changes = new ArrayList<>(roomDeltas.size());
+            roomDeltas.forEach((roomId, delta) -> {
+                Hotel hotel = hotels.get(rooms.get(roomId).getHotelId());
+                changes.add(new ReviewsCreatedEvent.RoomDelta(roomId, hotel.getHotelId(), hotel.getHotelTypeId(), delta));
+            });
+            eventPublisher.publishEvent(new ReviewsCreatedEvent(changes));
+        }
+
+        logger.info("Imported {} of {} reviews", saved.size(), requests.size());
+        return BulkReviewResponse.builder()
+                .total(requests.size())
+                .succeeded(saved.size())
+                .failed(requests.size() - saved.size())
+                .results(Arrays.asList(results))
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -94,102 +306,336 @@ public class ReviewService {
         roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
-        if (sortBy != null && !sortBy.isEmpty()) {
-            try {
-                String[] sortParts = sortBy.split(",");
-                if (sortParts.length == 2) {
-                    String field = sortParts[0].trim();
-                    String directionStr = sortParts[1].trim();
-                    
-                    if (!field.equals("createdAt") && !field.equals("rating")) {
-                        logger.warn("Invalid sort field: {}, allowed fields are 'createdAt' or 'rating'. Using default sort.", field);
-                    } else {
-                        Sort.Direction direction = directionStr.equalsIgnoreCase("asc") 
-                                ? Sort.Direction.ASC 
-                                : Sort.Direction.DESC;
-                        
-                        Sort.Order primaryOrder = new Sort.Order(direction, field);
-                        
-                        if (field.equals("rating")) {
-                            Sort.Order secondaryOrder = new Sort.Order(Sort.Direction.DESC, "createdAt");
-                            sort = Sort.by(primaryOrder, secondaryOrder);
-                        } else {
-                            sort = Sort.by(primaryOrder);
-                        }
-                    }
-                } else {
-                    logger.warn("Invalid sortBy format: {}. Expected format: 'field,direction'. Using default sort.", sortBy);
-                }
-            } catch (Exception e) {
-                logger.warn("Invalid sort parameter: {}, using default sort. Error: {}", sortBy, e.getMessage());
+        Sort sort = ReviewSortOrder.parse(sortBy).toSort();
+
+        Pageable pageable = PageRequest.of(page, size, sort);
+        return reviewRepository.findResponsesByRoomId(roomId, pageable);
+    }
+
+    /**
+     * Keyset variant of {@link #getReviewsByRoomId}: seeks past the position encoded in the cursor
+     * instead of skipping rows, and never counts, so every page costs the same.
+     *
+     * @param cursor cursor returned with the previous page, or empty for the first page
+     */
+    @Transactional(readOnly = true)
+    public ReviewCursorPageResponse getReviewsByRoomIdAfter(Long roomId, String cursor, int size, String sortBy) {
+        logger.debug("Fetching reviews for roomId: {}, cursor: {}, size: {}, sortBy: {}", roomId, cursor, size, sortBy);
+
+        roomRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
+
+        ReviewSortOrder order = ReviewSortOrder.parse(sortBy);
+        ReviewCursor position = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            position = ReviewCursor.decode(cursor);
+            if (sortBy != null && !sortBy.isEmpty() && position.order() != order) {
+                throw new InvalidCursorException("Cursor was issued for a different sort order");
             }
+            order = position.order();
         }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Review> reviews = reviewRepository.findByRoomId(roomId, pageable);
+        // Fetch one extra row to learn whether another page follows.
+        List<ReviewResponse> rows = order.isByRating()
+                ? seekByRating(roomId, order, position, size + 1)
+                : seekByCreatedAt(roomId, order, position, size + 1);
 
-        return reviews.map(review -> {
-            Booking booking = bookingRepository.findByBookingId(review.getBookingId())
-                    .orElse(null);
-            return mapToResponse(review, booking);
-        });
+        boolean hasNext = rows.size() > size;
+        List<ReviewResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        return ReviewCursorPageResponse.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ReviewCursor.after(order, content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private List<ReviewResponse> seekByCreatedAt(Long roomId, ReviewSortOrder order, ReviewCursor position, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, order.toKeysetSort());
+        if (position == null) {
+            return reviewRepository.findResponseSliceByRoomId(roomId, pageable);
+        }
+        if (order.getDirection() == Sort.Direction.DESC) {
+            return reviewRepository.findResponsesByRoomIdBefore(roomId, position.createdAt(), position.reviewId(), pageable);
+        }
+        return reviewRepository.findResponsesByRoomIdAfter(roomId, position.createdAt(), position.reviewId(), pageable);
+    }
+
+    /**
+     * Walks the rating groups in sort order and seeks by {@code (createdAt, reviewId)} inside each one,
+     * so every query is an equality-prefixed range scan. At most five queries per page.
+     */
+    private List<ReviewResponse> seekByRating(Long roomId, ReviewSortOrder order, ReviewCursor position, int limit) {
+        boolean descending = order.getDirection() == Sort.Direction.DESC;
+        int step = descending ? -1 : 1;
+        short rating = position != null
+                ? position.rating()
+                : (descending ? RatingTally.MAX_RATING : RatingTally.MIN_RATING);
+
+        List<ReviewResponse> rows = new ArrayList<>();
+        for (; rating >= RatingTally.MIN_RATING && rating <= RatingTally.MAX_RATING && rows.size() < limit;
+             rating += step) {
+            Pageable pageable = PageRequest.of(0, limit - rows.size(), order.toKeysetSort());
+            if (position != null && rating == position.rating()) {
+                rows.addAll(reviewRepository.findResponsesByRoomIdAndRatingBefore(
+                        roomId, rating, position.createdAt(), position.reviewId(), pageable));
+            } else {
+                rows.addAll(reviewRepository.findResponseSliceByRoomIdAndRating(roomId, rating, pageable));
+            }
+        }
+        return rows;
     }
 
     @Transactional(readOnly = true)
     public ReviewStatsResponse getReviewStats(Long roomId) {
         logger.debug("Fetching review stats for roomId: {}", roomId);
 
+        Optional<RoomReviewStats> stats = roomReviewStatsRepository.findById(roomId);
+        if (stats.isPresent()) {
+            return RatingTally.of(stats.get()).toStatsResponse(roomId);
+        }
+
+        // No aggregate row yet: either the room has no reviews or the reconciliation job has not
+        // backfilled it. Fall back to a single GROUP BY over the raw reviews.
         roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
 
-        Long totalReviews = reviewRepository.countByRoomId(roomId);
-        Double averageRating = reviewRepository.findAverageRatingByRoomId(roomId);
+        return RatingTally.of(reviewRepository.findRatingCountsByRoomId(roomId)).toStatsResponse(roomId);
+    }
+
+    /**
+     * Stats for many rooms from a single {@code GROUP BY room_id, rating} query. Unknown rooms are
+     * left out of the result; the rest are returned in request order.
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewStatsResponse> getReviewStats(Collection<Long> roomIds) {
+        logger.debug("Fetching review stats for {} rooms", roomIds.size());
+
+        Set<Long> existingRoomIds = new HashSet<>(roomRepository.findExistingRoomIds(roomIds));
+        if (existingRoomIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RatingTally> tallies = new HashMap<>();
+        for (RoomRatingCount row : reviewRepository.findRatingCountsByRoomIds(existingRoomIds)) {
+            tallies.computeIfAbsent(row.getRoomId(), id -> new RatingTally())
+                    .add(row.getRating(), row.getReviewCount(), row.getLastReviewAt());
+        }
 
-        Map<Short, Long> ratingDistribution = new HashMap<>();
-        for (short rating = 1; rating <= 5; rating++) {
-            Long count = reviewRepository.countByRoomIdAndRating(roomId, rating);
-            ratingDistribution.put(rating, count);
+        List<ReviewStatsResponse> responses = new ArrayList<>(existingRoomIds.size());
+        for (Long roomId : roomIds) {
+            if (existingRoomIds.contains(roomId)) {
+                responses.add(tallies.getOrDefault(roomId, new RatingTally()).toStatsResponse(roomId));
+            }
         }
+        return responses;
+    }
+
+    @Transactional(readOnly = true)
+    public RatingRollupResponse getHotelReviewStats(Long hotelId) {
+        logger.debug("Fetching review stats for hotelId: {}", hotelId);
+
+        Optional<HotelReviewStats> stats = hotelReviewStatsRepository.findById(hotelId);
+        if (stats.isPresent()) {
+            return RatingTally.of(stats.get()).toRollupResponse(RatingRollupResponse.HOTEL, hotelId);
+        }
+
+        hotelRepository.findByHotelId(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found: " + hotelId));
 
-        return ReviewStatsResponse.builder()
-                .roomId(roomId)
-                .totalReviews(totalReviews)
-                .averageRating(averageRating != null ? Math.round(averageRating * 100.0) / 100.0 : null)
-                .ratingDistribution(ratingDistribution)
+        return RatingTally.of(reviewRepository.findRatingCountsByHotelId(hotelId))
+                .toRollupResponse(RatingRollupResponse.HOTEL, hotelId);
+    }
+
+    /**
+     * Sums the hotel rollups of the type in one aggregate read. Hotel types are few and shared by
+     * many hotels, so they are not kept as their own row to avoid serializing every review write on it.
+     */
+    @Transactional(readOnly = true)
+    public RatingRollupResponse getHotelTypeReviewStats(Long hotelTypeId) {
+        logger.debug("Fetching review stats for hotelTypeId: {}", hotelTypeId);
+
+        hotelTypeRepository.findByHotelTypeId(hotelTypeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel type not found: " + hotelTypeId));
+
+        return RatingTally.of(hotelReviewStatsRepository.sumByHotelTypeId(hotelTypeId))
+                .toRollupResponse(RatingRollupResponse.HOTEL_TYPE, hotelTypeId);
+    }
+
+    /**
+     * Ranked comment search. Fetches one row beyond the page to tell whether another page follows,
+     * so no count query runs over what may be a large match set.
+     */
+    @Transactional(readOnly = true)
+    public ReviewSearchResponse searchReviews(ReviewSearchCriteria criteria, int page, int size) {
+        logger.debug("Searching reviews for '{}' - hotelId: {}, roomId: {}, rating: {}, from: {}, to: {}, page: {}, size: {}",
+                criteria.query(), criteria.hotelId(), criteria.roomId(), criteria.rating(),
+                criteria.from(), criteria.to(), page, size);
+
+        List<ReviewSearchHit> hits = reviewRepository.searchComments(criteria, page * size, size + 1);
+        boolean hasNext = hits.size() > size;
+
+        return ReviewSearchResponse.builder()
+                .query(criteria.query())
+                .results(hasNext ? List.copyOf(hits.subList(0, size)) : hits)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
                 .build();
     }
 
-    private void checkWriteReviewEnabled(Long hotelTypeId) {
+    private void recordRoomStats(Long roomId, RatingTally delta) {
+        if (incrementRoomStats(roomId, delta) > 0) {
+            return;
+        }
+
+        // First review for this room. Seed the row from the raw table so reviews written
+        // before the aggregate existed are counted too.
+        RoomReviewStats stats = RoomReviewStats.builder().roomId(roomId).build();
+        RatingTally.of(reviewRepository.findRatingCountsByRoomId(roomId)).copyTo(stats);
+        if (!roomReviewStatsRepository.insertIfAbsent(stats)) {
+            // Another transaction seeded the row first, without this transaction's reviews
+            incrementRoomStats(roomId, delta);
+        }
+    }
+
+    private int incrementRoomStats(Long roomId, RatingTally delta) {
+        return roomReviewStatsRepository.incrementCounts(roomId,
+                delta.total(),
+                delta.ratingSum(),
+                delta.count((short) 1),
+                delta.count((short) 2),
+                delta.count((short) 3),
+                delta.count((short) 4),
+                delta.count((short) 5),
+                delta.lastReviewAt());
+    }
+
+    private void recordHotelStats(Long hotelId, Long hotelTypeId, RatingTally delta) {
+        if (incrementHotelStats(hotelId, delta) > 0) {
+            return;
+        }
+
+        HotelReviewStats stats = HotelReviewStats.builder()
+                .hotelId(hotelId)
+                .hotelTypeId(hotelTypeId)
+                .build();
+        RatingTally.of(reviewRepository.findRatingCountsByHotelId(hotelId)).copyTo(stats);
+        if (!hotelReviewStatsRepository.insertIfAbsent(stats)) {
+            // Another transaction seeded the row first, without this transaction's reviews
+            incrementHotelStats(hotelId, delta);
+        }
+    }
+
+    private int incrementHotelStats(Long hotelId, RatingTally delta) {
+        return hotelReviewStatsRepository.incrementCounts(hotelId,
+                delta.total(),
+                delta.ratingSum(),
+                delta.count((short) 1),
+                delta.count((short) 2),
+                delta.count((short) 3),
+                delta.count((short) 4),
+                delta.count((short) 5),
+                delta.lastReviewAt());
+    }
+
+    private String validationMessage(ReviewRequest request) {
+        if (request == null) {
+            return "Validation failed: Review is required";
+        }
+        Set<ConstraintViolation<ReviewRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return "Validation failed: " + violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Applies the {@link #createReview} checks, in the same order, against preloaded entities.
+     */
+    private void checkImportable(ReviewRequest request,
+                                 Map<Long, Room> rooms,
+                                 Map<Long, Booking> bookings,
+                                 Map<Long, Hotel> hotels,
+                                 Map<Long, HotelType> hotelTypes,
+                                 Set<Long> reviewedBookingIds) {
+        Room room = rooms.get(request.getRoomId());
+        if (room == null) {
+            throw new ResourceNotFoundException("Room not found: " + request.getRoomId());
+        }
+
+        Booking booking = bookings.get(request.getBookingId());
+        if (booking == null) {
+            throw new ResourceNotFoundException("Booking not found: " + request.getBookingId());
+        }
+
+        if (!booking.getRoomId().equals(request.getRoomId())) {
+            throw new ResourceNotFoundException("Booking does not belong to the specified room");
+        }
+
+        if (!booking.getGuestEmail().equalsIgnoreCase(request.getReviewerEmail())) {
+            throw new ResourceNotFoundException("Reviewer email does not match booking guest email");
+        }
+
+        if (reviewedBookingIds.contains(request.getBookingId())) {
+            throw new DuplicateReviewException("A review already exists for booking: " + request.getBookingId());
+        }
+
+        Hotel hotel = hotels.get(room.getHotelId());
+        if (hotel == null) {
+            throw new ResourceNotFoundException("Hotel not found: " + room.getHotelId());
+        }
+
+        HotelType hotelType = hotelTypes.get(hotel.getHotelTypeId());
+        if (hotelType == null) {
+            throw new ResourceNotFoundException("Hotel type not found: " + hotel.getHotelTypeId());
+        }
+
+        if (!hotelType.getReviewEnabled()) {
+            throw new FeatureDisabledException("Reviews are disabled for this hotel type");
+        }
+    }
+
+    /**
+     * @param reviewEnabled the hotel type's flag, null when the hotel type does not exist
+     */
+    private void checkWriteReviewEnabled(Long hotelTypeId, Boolean reviewEnabled) {
         boolean globalEnabled = featureToggleService.isGlobalWriteReviewEnabled();
         if (!globalEnabled) {
             logger.warn("Write review feature is globally disabled");
             throw new FeatureDisabledException("Reviews are currently disabled globally");
         }
 
-        HotelType hotelType = hotelTypeRepository.findByHotelTypeId(hotelTypeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Hotel type not found: " + hotelTypeId));
+        if (reviewEnabled == null) {
+            throw new ResourceNotFoundException("Hotel type not found: " + hotelTypeId);
+        }
 
-        if (!hotelType.getReviewEnabled()) {
+        if (!reviewEnabled) {
             logger.warn("Write review feature is disabled for hotel type: {}", hotelTypeId);
             throw new FeatureDisabledException("Reviews are disabled for this hotel type");
         }
     }
 
-    private ReviewResponse mapToResponse(Review review, Booking booking) {
-        ReviewResponse.ReviewResponseBuilder builder = ReviewResponse.builder()
+    static ReviewResponse mapToResponse(Review review, Booking booking) {
+        return booking != null
+                ? mapToResponse(review, booking.getGuestEmail(), booking.getGuestName())
+                : mapToResponse(review, null, null);
+    }
+
+    private static ReviewResponse mapToResponse(Review review, String reviewerEmail, String reviewerName) {
+        return ReviewResponse.builder()
                 .reviewId(review.getReviewId())
                 .roomId(review.getRoomId())
                 .bookingId(review.getBookingId())
                 .rating(review.getRating())
                 .comment(review.getComment())
-                .createdAt(review.getCreatedAt());
-
-        if (booking != null) {
-            builder.reviewerEmail(booking.getGuestEmail())
-                   .reviewerName(booking.getGuestName());
-        }
-
-        return builder.build();
+                .reviewerEmail(reviewerEmail)
+                .reviewerName(reviewerName)
+                .createdAt(review.getCreatedAt())
+                .build();
     }
 }
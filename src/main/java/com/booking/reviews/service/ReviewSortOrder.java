@@ -0,0 +1,81 @@
+package com.booking.reviews.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The sort orders supported by the review listing, parsed from the {@code sortBy} request parameter
+ * ({@code field,direction}). Rating orders always break ties by newest first.
+ */
+public enum ReviewSortOrder {
+
+    CREATED_AT_DESC("createdAt", Sort.Direction.DESC),
+    CREATED_AT_ASC("createdAt", Sort.Direction.ASC),
+    RATING_DESC("rating", Sort.Direction.DESC),
+    RATING_ASC("rating", Sort.Direction.ASC);
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewSortOrder.class);
+
+    private final String field;
+    private final Sort.Direction direction;
+
+    ReviewSortOrder(String field, Sort.Direction direction) {
+        this.field = field;
+        this.direction = direction;
+    }
+
+    public static ReviewSortOrder parse(String sortBy) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            return CREATED_AT_DESC;
+        }
+
+        String[] sortParts = sortBy.split(",");
+        if (sortParts.length != 2) {
+            logger.warn("Invalid sortBy format: {}. Expected format: 'field,direction'. Using default sort.", sortBy);
+            return CREATED_AT_DESC;
+        }
+
+        String field = sortParts[0].trim();
+        boolean ascending = sortParts[1].trim().equalsIgnoreCase("asc");
+
+        if (field.equals("createdAt")) {
+            return ascending ? CREATED_AT_ASC : CREATED_AT_DESC;
+        }
+        if (field.equals("rating")) {
+            return ascending ? RATING_ASC : RATING_DESC;
+        }
+
+        logger.warn("Invalid sort field: {}, allowed fields are 'createdAt' or 'rating'. Using default sort.", field);
+        return CREATED_AT_DESC;
+    }
+
+    public boolean isByRating() {
+        return field.equals("rating");
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Sort used by offset pagination.
+     */
+    public Sort toSort() {
+        Sort.Order primaryOrder = new Sort.Order(direction, field);
+        if (isByRating()) {
+            return Sort.by(primaryOrder, new Sort.Order(Sort.Direction.DESC, "createdAt"));
+        }
+        return Sort.by(primaryOrder);
+    }
+
+    /**
+     * Sort used by keyset pagination within one seek query. The review ID tie-break makes the order
+     * total, so a cursor always identifies a unique position. Rating orders are seeked one rating
+     * group at a time, so only the within-group order is needed here.
+     */
+    public Sort toKeysetSort() {
+        Sort.Direction keyDirection = isByRating() ? Sort.Direction.DESC : direction;
+        return Sort.by(new Sort.Order(keyDirection, "createdAt"), new Sort.Order(keyDirection, "reviewId"));
+    }
+}
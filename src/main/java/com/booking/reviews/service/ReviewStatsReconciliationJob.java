@@ -0,0 +1,188 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelReviewStats;
+import com.booking.reviews.entity.RoomReviewStats;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.HotelReviewStatsRepository;
+import com.booking.reviews.repository.ReviewRepository;
+import com.booking.reviews.repository.RoomReviewStatsRepository;
+import com.booking.reviews.repository.projection.HotelRatingCount;
+import com.booking.reviews.repository.projection.RoomRatingCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repairs drift between {@code room_review_stats}/{@code hotel_review_stats} and the raw
+ * {@code reviews} table, e.g. after manual data fixes, rows written before the aggregates existed
+ * or hotels moved to another hotel type.
+ */
+@Component
+@ConditionalOnProperty(name = "review-stats.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class ReviewStatsReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewStatsReconciliationJob.class);
+
+    private final ReviewRepository reviewRepository;
+    private final RoomReviewStatsRepository roomReviewStatsRepository;
+    private final HotelReviewStatsRepository hotelReviewStatsRepository;
+    private final HotelRepository hotelRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewStatsReconciliationJob(
+            ReviewRepository reviewRepository,
+            RoomReviewStatsRepository roomReviewStatsRepository,
+            HotelReviewStatsRepository hotelReviewStatsRepository,
+            HotelRepository hotelRepository,
+            PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.roomReviewStatsRepository = roomReviewStatsRepository;
+        this.hotelReviewStatsRepository = hotelReviewStatsRepository;
+        this.hotelRepository = hotelRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${review-stats.reconciliation.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        reconcile();
+    }
+
+    /**
+     * Compares every aggregate row against a fresh {@code GROUP BY} of the reviews table and
+     * rewrites the rows that disagree.
+     *
+     * @return number of room and hotel aggregates that were repaired
+     */
+    public int reconcile() {
+        return reconcileRooms() + reconcileHotels();
+    }
+
+    int reconcileRooms() {
+        long started = System.currentTimeMillis();
+
+        Map<Long, RatingTally> actual = new HashMap<>();
+        for (RoomRatingCount row : reviewRepository.findAllRatingCounts()) {
+            actual.computeIfAbsent(row.getRoomId(), id -> new RatingTally())
+                    .add(row.getRating(), row.getReviewCount(), row.getLastReviewAt());
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<Long> drifted = new ArrayList<>();
+        for (RoomReviewStats stats : roomReviewStatsRepository.findAll()) {
+            seen.add(stats.getRoomId());
+            RatingTally expected = actual.getOrDefault(stats.getRoomId(), new RatingTally());
+            if (!expected.matches(stats)) {
+                drifted.add(stats.getRoomId());
+            }
+        }
+        for (Long roomId : actual.keySet()) {
+            if (!seen.contains(roomId)) {
+                drifted.add(roomId);
+            }
+        }
+
+        // The snapshot above may be stale by now, so each room is recomputed again under the
+        // aggregate row lock before it is overwritten.
+        for (Long roomId : drifted) {
+            transactionTemplate.executeWithoutResult(status -> repairRoom(roomId));
+        }
+
+        logger.info("Room review stats reconciliation finished: {} aggregate rows checked, {} rooms repaired in {} ms",
+                seen.size(), drifted.size(), System.currentTimeMillis() - started);
+        return drifted.size();
+    }
+
+    int reconcileHotels() {
+        long started = System.currentTimeMillis();
+
+        Map<Long, RatingTally> actual = new HashMap<>();
+        for (HotelRatingCount row : reviewRepository.findAllHotelRatingCounts()) {
+            actual.computeIfAbsent(row.getHotelId(), id -> new RatingTally())
+                    .add(row.getRating(), row.getReviewCount(), row.getLastReviewAt());
+        }
+
+        Map<Long, Long> hotelTypeIds = new HashMap<>();
+        for (Hotel hotel : hotelRepository.findAll()) {
+            hotelTypeIds.put(hotel.getHotelId(), hotel.getHotelTypeId());
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<Long> drifted = new ArrayList<>();
+        for (HotelReviewStats stats : hotelReviewStatsRepository.findAll()) {
+            seen.add(stats.getHotelId());
+            RatingTally expected = actual.getOrDefault(stats.getHotelId(), new RatingTally());
+            if (!expected.matches(stats)
+                    || !Objects.equals(stats.getHotelTypeId(), hotelTypeIds.get(stats.getHotelId()))) {
+                drifted.add(stats.getHotelId());
+            }
+        }
+        for (Long hotelId : actual.keySet()) {
+            if (!seen.contains(hotelId)) {
+                drifted.add(hotelId);
+            }
+        }
+
+        for (Long hotelId : drifted) {
+            transactionTemplate.executeWithoutResult(status -> repairHotel(hotelId));
+        }
+
+        logger.info("Hotel review stats reconciliation finished: {} aggregate rows checked, {} hotels repaired in {} ms",
+                seen.size(), drifted.size(), System.currentTimeMillis() - started);
+        return drifted.size();
+    }
+
+    private void repairRoom(Long roomId) {
+        RoomReviewStats stats = roomReviewStatsRepository.findByRoomIdForUpdate(roomId)
+                .orElseGet(() -> RoomReviewStats.builder().roomId(roomId).build());
+        RatingTally expected = RatingTally.of(reviewRepository.findRatingCountsByRoomId(roomId));
+
+        if (stats.getTotalReviews() != null && expected.matches(stats)) {
+            return;
+        }
+
+        logger.warn("Repairing review stats for roomId: {} (stored total: {}, actual total: {})",
+                roomId, stats.getTotalReviews(), expected.total());
+        expected.copyTo(stats);
+        roomReviewStatsRepository.save(stats);
+    }
+
+    private void repairHotel(Long hotelId) {
+        Optional<Hotel> hotel = hotelRepository.findById(hotelId);
+        if (hotel.isEmpty()) {
+            // Hotel was deleted; its rollup no longer belongs to any hotel type.
+            logger.warn("Removing review stats for deleted hotelId: {}", hotelId);
+            hotelReviewStatsRepository.deleteById(hotelId);
+            return;
+        }
+
+        HotelReviewStats stats = hotelReviewStatsRepository.findByHotelIdForUpdate(hotelId)
+                .orElseGet(() -> HotelReviewStats.builder().hotelId(hotelId).build());
+        RatingTally expected = RatingTally.of(reviewRepository.findRatingCountsByHotelId(hotelId));
+        Long hotelTypeId = hotel.get().getHotelTypeId();
+
+        if (stats.getTotalReviews() != null && expected.matches(stats)
+                && Objects.equals(stats.getHotelTypeId(), hotelTypeId)) {
+            return;
+        }
+
+        logger.warn("Repairing review stats for hotelId: {} (stored total: {}, actual total: {})",
+                hotelId, stats.getTotalReviews(), expected.total());
+        expected.copyTo(stats);
+        stats.setHotelTypeId(hotelTypeId);
+        hotelReviewStatsRepository.save(stats);
+    }
+}
@@ -0,0 +1,21 @@
+package com.booking.reviews.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link ReviewService} when reviews are written, with the per-room changes the
+ * write made. Consumers that keep derived state in memory listen for it after commit, so rolled
+ * back writes never reach them.
+ */
+public record ReviewsCreatedEvent(List<RoomDelta> rooms) {
+
+    /**
+     * New reviews for one room, with the hotel and hotel type the room belonged to at write time.
+     */
+    public record RoomDelta(Long roomId, Long hotelId, Long hotelTypeId, RatingTally tally) {
+    }
+
+    public ReviewsCreatedEvent {
+        rooms = List.copyOf(rooms);
+    }
+}
@@ -0,0 +1,138 @@
+package com.booking.reviews.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rooms ranked by average rating, per hotel and per hotel type. Every room's totals are kept, but
+ * only rooms with at least {@code minReviews} reviews are ranked. Each ranking is a sorted set, so
+ * applying a new review costs O(log n) and reading the top K costs O(K).
+ * <p>
+ * Updates for different rooms run concurrently; updates for the same room are serialized. A reader
+ * can briefly miss a room that is being re-ranked. {@link #replaceAll} swaps in a whole new state, and
+ * updates applied to the old state while it is being built are lost until the next rebuild.
+ */
+final class RoomLeaderboard {
+
+    /**
+     * Higher average first, then more reviews, then lower room ID. Averages are compared by
+     * cross-multiplying, so there is no rounding.
+     */
+    static final Comparator<Standing> RANKING = (a, b) -> {
+        int byAverage = Long.compare(b.ratingSum() * a.totalReviews(), a.ratingSum() * b.totalReviews());
+        if (byAverage != 0) {
+            return byAverage;
+        }
+        int byCount = Long.compare(b.totalReviews(), a.totalReviews());
+        return byCount != 0 ? byCount : Long.compare(a.roomId(), b.roomId());
+    };
+
+    record Standing(long roomId, long hotelId, long hotelTypeId, long totalReviews, long ratingSum) {
+
+        Standing plus(long hotelId, long hotelTypeId, long reviews, long ratingSum) {
+            return new Standing(roomId, hotelId, hotelTypeId, totalReviews + reviews, this.ratingSum + ratingSum);
+        }
+
+        double averageRating() {
+            return Math.round((double) ratingSum / totalReviews * 100.0) / 100.0;
+        }
+    }
+
+    private final long minReviews;
+    private final AtomicReference<State> state = new AtomicReference<>(new State());
+
+    RoomLeaderboard(long minReviews) {
+        this.minReviews = minReviews;
+    }
+
+    long minReviews() {
+        return minReviews;
+    }
+
+    /**
+     * Adds reviews to a room's totals and re-ranks it. The hotel and hotel type are taken from the
+     * update, so a room whose hotel changed type moves with its next review.
+     */
+    void add(long roomId, long hotelId, long hotelTypeId, long reviews, long ratingSum) {
+        State current = state.get();
+        current.standings.compute(roomId, (id, previous) -> {
+            Standing next = previous == null
+                    ? new Standing(roomId, hotelId, hotelTypeId, reviews, ratingSum)
+                    : previous.plus(hotelId, hotelTypeId, reviews, ratingSum);
+            if (previous != null) {
+                current.unrank(previous);
+            }
+            current.rank(next, minReviews);
+            return next;
+        });
+    }
+
+    /**
+     * Replaces every standing, e.g. with a fresh read of the aggregate tables.
+     */
+    void replaceAll(Collection<Standing> standings) {
+        State fresh = new State();
+        for (Standing standing : standings) {
+            fresh.standings.put(standing.roomId(), standing);
+            fresh.rank(standing, minReviews);
+        }
+        state.set(fresh);
+    }
+
+    List<Standing> topForHotel(long hotelId, int limit) {
+        return top(state.get().byHotel.get(hotelId), limit);
+    }
+
+    List<Standing> topForHotelType(long hotelTypeId, int limit) {
+        return top(state.get().byHotelType.get(hotelTypeId), limit);
+    }
+
+    int roomCount() {
+        return state.get().standings.size();
+    }
+
+    private static List<Standing> top(NavigableSet<Standing> ranking, int limit) {
+        if (ranking == null) {
+            return List.of();
+        }
+        List<Standing> top = new ArrayList<>(limit);
+        Iterator<Standing> iterator = ranking.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    private static final class State {
+        final Map<Long, Standing> standings = new ConcurrentHashMap<>();
+        final Map<Long, NavigableSet<Standing>> byHotel = new ConcurrentHashMap<>();
+        final Map<Long, NavigableSet<Standing>> byHotelType = new ConcurrentHashMap<>();
+
+        void rank(Standing standing, long minReviews) {
+            if (standing.totalReviews() < minReviews || standing.totalReviews() == 0) {
+                return;
+            }
+            byHotel.computeIfAbsent(standing.hotelId(), id -> new ConcurrentSkipListSet<>(RANKING)).add(standing);
+            byHotelType.computeIfAbsent(standing.hotelTypeId(), id -> new ConcurrentSkipListSet<>(RANKING)).add(standing);
+        }
+
+        void unrank(Standing standing) {
+            NavigableSet<Standing> hotel = byHotel.get(standing.hotelId());
+            if (hotel != null) {
+                hotel.remove(standing);
+            }
+            NavigableSet<Standing> hotelType = byHotelType.get(standing.hotelTypeId());
+            if (hotelType != null) {
+                hotelType.remove(standing);
+            }
+        }
+    }
+}
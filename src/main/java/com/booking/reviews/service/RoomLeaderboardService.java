@@ -0,0 +1,130 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.RatingRollupResponse;
+import com.booking.reviews.dto.RoomLeaderboardEntry;
+import com.booking.reviews.dto.RoomLeaderboardResponse;
+import com.booking.reviews.exception.ResourceNotFoundException;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.HotelTypeRepository;
+import com.booking.reviews.repository.RoomReviewStatsRepository;
+import com.booking.reviews.repository.projection.RoomStanding;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the best-rated rooms per hotel and per hotel type from memory. The rankings are loaded
+ * from {@code room_review_stats} at startup and again nightly, and every committed review write
+ * moves its room in place, so a read costs O(K) whatever the number of rooms.
+ */
+@Service
+public class RoomLeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomLeaderboardService.class);
+
+    private final RoomReviewStatsRepository roomReviewStatsRepository;
+    private final HotelRepository hotelRepository;
+    private final HotelTypeRepository hotelTypeRepository;
+    private final RoomLeaderboard leaderboard;
+    private final int maxSize;
+
+    public RoomLeaderboardService(
+            RoomReviewStatsRepository roomReviewStatsRepository,
+            HotelRepository hotelRepository,
+            HotelTypeRepository hotelTypeRepository,
+            @Value("${reviews.leaderboard.min-reviews:5}") long minReviews,
+            @Value("${reviews.leaderboard.max-size:50}") int maxSize) {
+        this.roomReviewStatsRepository = roomReviewStatsRepository;
+        this.hotelRepository = hotelRepository;
+        this.hotelTypeRepository = hotelTypeRepository;
+        this.leaderboard = new RoomLeaderboard(minReviews);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Largest leaderboard that can be requested.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @PostConstruct
+    void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Runs after the stats reconciliation job, so repaired aggregates and hotels that moved to
+     * another hotel type are picked up.
+     */
+    @Scheduled(cron = "${reviews.leaderboard.rebuild-cron:0 45 3 * * *}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+
+        List<RoomLeaderboard.Standing> standings = new ArrayList<>();
+        for (RoomStanding row : roomReviewStatsRepository.findAllStandings()) {
+            standings.add(new RoomLeaderboard.Standing(row.getRoomId(), row.getHotelId(), row.getHotelTypeId(),
+                    row.getTotalReviews(), row.getRatingSum()));
+        }
+        leaderboard.replaceAll(standings);
+
+        logger.info("Room leaderboards rebuilt from {} rooms in {} ms",
+                standings.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Applies committed review writes. Rolled back writes never get here.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewsCreated(ReviewsCreatedEvent event) {
+        for (ReviewsCreatedEvent.RoomDelta room : event.rooms()) {
+            leaderboard.add(room.roomId(), room.hotelId(), room.hotelTypeId(),
+                    room.tally().total(), room.tally().ratingSum());
+        }
+    }
+
+    public RoomLeaderboardResponse getHotelLeaderboard(Long hotelId, int limit) {
+        logger.debug("Fetching room leaderboard for hotelId: {}, limit: {}", hotelId, limit);
+
+        hotelRepository.findByHotelId(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found: " + hotelId));
+
+        return toResponse(RatingRollupResponse.HOTEL, hotelId, leaderboard.topForHotel(hotelId, limit));
+    }
+
+    public RoomLeaderboardResponse getHotelTypeLeaderboard(Long hotelTypeId, int limit) {
+        logger.debug("Fetching room leaderboard for hotelTypeId: {}, limit: {}", hotelTypeId, limit);
+
+        hotelTypeRepository.findByHotelTypeId(hotelTypeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel type not found: " + hotelTypeId));
+
+        return toResponse(RatingRollupResponse.HOTEL_TYPE, hotelTypeId, leaderboard.topForHotelType(hotelTypeId, limit));
+    }
+
+    private RoomLeaderboardResponse toResponse(String level, Long id, List<RoomLeaderboard.Standing> top) {
+        List<RoomLeaderboardEntry> rooms = new ArrayList<>(top.size());
+        for (RoomLeaderboard.Standing standing : top) {
+            rooms.add(RoomLeaderboardEntry.builder()
+                    .rank(rooms.size() + 1)
+                    .roomId(standing.roomId())
+                    .hotelId(standing.hotelId())
+                    .averageRating(standing.averageRating())
+                    .totalReviews(standing.totalReviews())
+                    .build());
+        }
+        return RoomLeaderboardResponse.builder()
+                .level(level)
+                .id(id)
+                .minReviews(leaderboard.minReviews())
+                .rooms(rooms)
+                .build();
+    }
+}
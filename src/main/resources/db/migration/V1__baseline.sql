@@ -0,0 +1,108 @@
+-- Schema as created by the entity mappings before migrations were versioned (ddl-auto: update).
+-- Existing databases are baselined at this version by Flyway (spring.flyway.baseline-on-migrate)
+-- and skip this script; it only runs against an empty schema.
+
+CREATE TABLE hotel_types (
+    hotel_type_id  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type_name      VARCHAR(255) NOT NULL,
+    review_enabled BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_hotel_types_type_name UNIQUE (type_name)
+);
+
+CREATE TABLE hotels (
+    hotel_id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_type_id BIGINT       NOT NULL,
+    hotel_name    VARCHAR(255) NOT NULL,
+    location      VARCHAR(255),
+    created_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE rooms (
+    room_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_id    BIGINT       NOT NULL,
+    room_number VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_room_hotel_room_number UNIQUE (hotel_id, room_number)
+);
+
+CREATE TABLE bookings (
+    booking_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_id        BIGINT       NOT NULL,
+    guest_name     VARCHAR(255) NOT NULL,
+    guest_email    VARCHAR(255) NOT NULL,
+    check_in_date  DATE,
+    check_out_date DATE,
+    created_at     TIMESTAMP(6) NOT NULL
+);
+
+-- Pooled by Hibernate in blocks of 50 (allocationSize on Review), so review inserts can be batched
+CREATE SEQUENCE reviews_review_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE reviews (
+    review_id   BIGINT       NOT NULL PRIMARY KEY,
+    room_id     BIGINT       NOT NULL,
+    booking_id  BIGINT       NOT NULL,
+    rating      SMALLINT     NOT NULL,
+    comment     VARCHAR(1000),
+    created_at  TIMESTAMP(6) NOT NULL,
+    -- Full-text search vector; must use the same configuration as ReviewSearchRepositoryImpl
+    comment_tsv TSVECTOR GENERATED ALWAYS AS (to_tsvector('english', coalesce(comment, ''))) STORED,
+    CONSTRAINT uk_reviews_booking_id UNIQUE (booking_id)
+);
+
+CREATE INDEX idx_review_room_id ON reviews (room_id);
+CREATE INDEX idx_review_booking_id ON reviews (booking_id);
+CREATE INDEX idx_review_created_at ON reviews (created_at);
+CREATE INDEX idx_review_room_rating ON reviews (room_id, rating);
+CREATE INDEX idx_review_room_created_id ON reviews (room_id, created_at, review_id);
+CREATE INDEX idx_review_room_rating_created_id ON reviews (room_id, rating, created_at, review_id);
+CREATE INDEX idx_review_comment_tsv ON reviews USING GIN (comment_tsv);
+
+CREATE TABLE room_review_stats (
+    room_id        BIGINT       NOT NULL PRIMARY KEY,
+    total_reviews  BIGINT       NOT NULL,
+    rating_sum     BIGINT       NOT NULL,
+    rating_1_count BIGINT       NOT NULL,
+    rating_2_count BIGINT       NOT NULL,
+    rating_3_count BIGINT       NOT NULL,
+    rating_4_count BIGINT       NOT NULL,
+    rating_5_count BIGINT       NOT NULL,
+    last_review_at TIMESTAMP(6),
+    updated_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE hotel_review_stats (
+    hotel_id       BIGINT       NOT NULL PRIMARY KEY,
+    hotel_type_id  BIGINT       NOT NULL,
+    total_reviews  BIGINT       NOT NULL,
+    rating_sum     BIGINT       NOT NULL,
+    rating_1_count BIGINT       NOT NULL,
+    rating_2_count BIGINT       NOT NULL,
+    rating_3_count BIGINT       NOT NULL,
+    rating_4_count BIGINT       NOT NULL,
+    rating_5_count BIGINT       NOT NULL,
+    last_review_at TIMESTAMP(6),
+    updated_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_hotel_review_stats_hotel_type_id ON hotel_review_stats (hotel_type_id);
+
+CREATE TABLE rating_trend_buckets (
+    scope          VARCHAR(8)   NOT NULL,
+    scope_id       BIGINT       NOT NULL,
+    granularity    VARCHAR(8)   NOT NULL,
+    bucket_start   DATE         NOT NULL,
+    total_reviews  BIGINT       NOT NULL,
+    rating_sum     BIGINT       NOT NULL,
+    rating_1_count BIGINT       NOT NULL,
+    rating_2_count BIGINT       NOT NULL,
+    rating_3_count BIGINT       NOT NULL,
+    rating_4_count BIGINT       NOT NULL,
+    rating_5_count BIGINT       NOT NULL,
+    last_review_at TIMESTAMP(6),
+    updated_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (scope, scope_id, granularity, bucket_start)
+);
+
+CREATE INDEX idx_rating_trend_bucket_granularity_start ON rating_trend_buckets (granularity, bucket_start);
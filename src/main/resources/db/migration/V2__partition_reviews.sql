@@ -0,0 +1,108 @@
+-- Range-partitions reviews by month of created_at. Queries bounded by created_at read only the
+-- matching partitions, each partition has its own small indexes, and old months can be detached
+-- (ReviewPartitionMaintenanceJob) instead of deleted row by row.
+--
+-- Every review is copied inside this migration's transaction, with reviews locked: run it in a
+-- maintenance window on large tables, with the application stopped.
+--
+-- PostgreSQL requires unique constraints on a partitioned table to include the partition key, so
+-- the primary key becomes (review_id, created_at) and one review per booking is enforced by the
+-- review_bookings table, filled by trigger. Its rows outlive detached partitions, so a booking
+-- whose review was archived still cannot be reviewed again.
+
+-- Review IDs come from a standalone sequence; an identity or serial sequence would be dropped with
+-- the old table. Never move it backwards: running instances may hold allocated blocks.
+DO $$
+DECLARE
+    next_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(review_id), 0) + 50 INTO next_id FROM reviews;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'reviews'
+                 AND column_name = 'review_id' AND is_identity = 'YES') THEN
+        ALTER TABLE reviews ALTER COLUMN review_id DROP IDENTITY;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                   WHERE c.relkind = 'S' AND c.relname = 'reviews_review_id_seq'
+                     AND n.nspname = current_schema()) THEN
+        CREATE SEQUENCE reviews_review_id_seq INCREMENT BY 50;
+    END IF;
+    ALTER TABLE reviews ALTER COLUMN review_id DROP DEFAULT;
+    ALTER SEQUENCE reviews_review_id_seq INCREMENT BY 50 OWNED BY NONE;
+
+    PERFORM setval('reviews_review_id_seq', GREATEST(next_id, (SELECT last_value FROM reviews_review_id_seq)));
+END $$;
+
+ALTER TABLE reviews RENAME TO reviews_unpartitioned;
+
+CREATE TABLE reviews_partitioned (
+    review_id   BIGINT       NOT NULL,
+    room_id     BIGINT       NOT NULL,
+    booking_id  BIGINT       NOT NULL,
+    rating      SMALLINT     NOT NULL,
+    comment     VARCHAR(1000),
+    created_at  TIMESTAMP(6) NOT NULL,
+    -- Full-text search vector; must use the same configuration as ReviewSearchRepositoryImpl
+    comment_tsv TSVECTOR GENERATED ALWAYS AS (to_tsvector('english', coalesce(comment, ''))) STORED
+) PARTITION BY RANGE (created_at);
+
+-- One partition per month from the oldest review to three months ahead. Later months are created
+-- by ReviewPartitionMaintenanceJob; the default partition only catches rows outside all of them.
+DO $$
+DECLARE
+    month DATE;
+    last_month DATE := date_trunc('month', now())::date + INTERVAL '3 months';
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at))::date, date_trunc('month', now())::date)
+    INTO month FROM reviews_unpartitioned;
+
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE reviews_p%s PARTITION OF reviews_partitioned FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE reviews_default PARTITION OF reviews_partitioned DEFAULT;
+
+INSERT INTO reviews_partitioned (review_id, room_id, booking_id, rating, comment, created_at)
+SELECT review_id, room_id, booking_id, rating, comment, created_at
+FROM reviews_unpartitioned;
+
+DROP TABLE reviews_unpartitioned;
+ALTER TABLE reviews_partitioned RENAME TO reviews;
+
+ALTER TABLE reviews ADD CONSTRAINT reviews_pkey PRIMARY KEY (review_id, created_at);
+
+-- idx_review_room_id and idx_review_room_rating are not recreated: they are prefixes of the
+-- two keyset indexes below
+CREATE INDEX idx_review_booking_id ON reviews (booking_id);
+CREATE INDEX idx_review_created_at ON reviews (created_at);
+CREATE INDEX idx_review_room_created_id ON reviews (room_id, created_at, review_id);
+CREATE INDEX idx_review_room_rating_created_id ON reviews (room_id, rating, created_at, review_id);
+CREATE INDEX idx_review_comment_tsv ON reviews USING GIN (comment_tsv);
+
+CREATE TABLE review_bookings (
+    booking_id BIGINT NOT NULL,
+    review_id  BIGINT NOT NULL,
+    CONSTRAINT uk_reviews_booking_id PRIMARY KEY (booking_id)
+);
+
+INSERT INTO review_bookings (booking_id, review_id)
+SELECT booking_id, review_id FROM reviews;
+
+CREATE FUNCTION reviews_claim_booking() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM review_bookings WHERE booking_id = OLD.booking_id AND review_id = OLD.review_id;
+        RETURN OLD;
+    END IF;
+    INSERT INTO review_bookings (booking_id, review_id) VALUES (NEW.booking_id, NEW.review_id);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_reviews_claim_booking
+    AFTER INSERT OR DELETE ON reviews
+    FOR EACH ROW EXECUTE FUNCTION reviews_claim_booking();
@@ -0,0 +1,206 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.ReviewPartitionMaintenanceJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the migrations the way production meets them: V1 already applied by hand and holding
+ * reviews, then the application starts, Flyway baselines the schema at V1 and applies
+ * V2__partition_reviews.sql to the existing rows. The checks that follow need PostgreSQL itself:
+ * monthly partitions, the review_bookings trigger behind duplicate detection, and
+ * {@link ReviewPartitionMaintenanceJob} creating and detaching real partitions. The tests share
+ * the database and run in order: maintenance detaches the month the first test reads.
+ */
+@Tag("postgres")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "reviews.partitions.maintenance.enabled=true",
+        "rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class PostgresMigrationIntegrationTest {
+
+    private static final YearMonth CURRENT = YearMonth.now();
+    private static final YearMonth TWO_MONTHS_AGO = CURRENT.minusMonths(2);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws Exception {
+        seedExistingSchema();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    /**
+     * Applies V1 outside Flyway, as on databases created before the migrations were versioned, and
+     * adds a room with two bookings, one of them reviewed two months ago.
+     */
+    private static void seedExistingSchema() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline.sql"));
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        LocalDateTime seeded = TWO_MONTHS_AGO.atDay(10).atTime(12, 0);
+        jdbcTemplate.update("INSERT INTO hotel_types (hotel_type_id, type_name, review_enabled, created_at) " +
+                "VALUES (1, 'Luxury', true, ?)", seeded);
+        jdbcTemplate.update("INSERT INTO hotels (hotel_id, hotel_type_id, hotel_name, created_at) " +
+                "VALUES (1, 1, 'Test Hotel', ?)", seeded);
+        jdbcTemplate.update("INSERT INTO rooms (room_id, hotel_id, room_number, created_at) " +
+                "VALUES (1, 1, '101', ?)", seeded);
+        jdbcTemplate.update("INSERT INTO bookings (booking_id, room_id, guest_name, guest_email, created_at) " +
+                "VALUES (1, 1, 'Early Guest', 'early@example.com', ?), (2, 1, 'New Guest', 'new@example.com', ?)",
+                seeded, seeded);
+        jdbcTemplate.update("INSERT INTO reviews (review_id, room_id, booking_id, rating, comment, created_at) " +
+                "VALUES (1, 1, 1, 5, 'Reviewed before the migration', ?)", seeded);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @Order(1)
+    void migrateExistingSchema_ReviewsLandInMonthlyPartitionsAndDuplicatesAreRejected() throws Exception {
+        // Arrange
+        assertEquals(List.of("1", "2"), jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class));
+
+        // Act
+        mockMvc.perform(post("/api/reviews")
+                        .with(user("test"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(2L, "new@example.com")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/reviews")
+                        .with(user("test"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(1L, "early@example.com")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_REVIEW"));
+        mockMvc.perform(post("/api/reviews")
+                        .with(user("test"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(2L, "new@example.com")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_REVIEW"));
+
+        // Assert
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT count(*) FROM reviews", Long.class));
+        assertEquals(partition(TWO_MONTHS_AGO), partitionOf(1L));
+        assertEquals(partition(CURRENT), partitionOf(2L));
+        assertEquals(List.of(1L, 2L), jdbcTemplate.queryForList(
+                "SELECT booking_id FROM review_bookings ORDER BY booking_id", Long.class));
+        // Review IDs continue above the copied ones
+        assertTrue(jdbcTemplate.queryForObject("SELECT review_id FROM reviews WHERE booking_id = 2", Long.class) > 1L);
+    }
+
+    @Test
+    @Order(2)
+    void maintain_CreatesMonthsAheadAndDetachesMonthsPastRetention() throws Exception {
+        // Arrange
+        ReviewPartitionMaintenanceJob job = new ReviewPartitionMaintenanceJob(jdbcTemplate, 4, 1);
+
+        // Act
+        int changed = job.maintain(CURRENT);
+        int again = job.maintain(CURRENT);
+
+        // Assert
+        // V2 made partitions through three months ahead; the fourth is new. The month two back is
+        // past the one-month retention.
+        assertEquals(2, changed);
+        assertEquals(0, again);
+        assertTrue(isAttached(partition(CURRENT.plusMonths(4))));
+        assertTrue(isAttached(partition(CURRENT.minusMonths(1))));
+        assertFalse(isAttached(partition(TWO_MONTHS_AGO)));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + partition(TWO_MONTHS_AGO), Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM reviews WHERE booking_id = 1", Long.class));
+
+        // The detached review's booking still cannot be reviewed again
+        mockMvc.perform(post("/api/reviews")
+                        .with(user("test"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(1L, "early@example.com")))
+                .andExpect(status().isConflict());
+    }
+
+    private String review(Long bookingId, String reviewerEmail) throws Exception {
+        return objectMapper.writeValueAsString(ReviewRequest.builder()
+                .roomId(1L)
+                .bookingId(bookingId)
+                .rating((short) 4)
+                .reviewerEmail(reviewerEmail)
+                .build());
+    }
+
+    private String partitionOf(Long bookingId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM reviews WHERE booking_id = ?",
+                String.class, bookingId);
+    }
+
+    private boolean isAttached(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(?) " +
+                        "AND inhparent = to_regclass('reviews'))", Boolean.class, partition));
+    }
+
+    private static String partition(YearMonth month) {
+        return String.format("reviews_p%d%02d", month.getYear(), month.getMonthValue());
+    }
+}
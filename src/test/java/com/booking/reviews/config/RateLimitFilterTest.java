@@ -0,0 +1,162 @@
+package com.booking.reviews.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the filter with a real {@link RateLimiter} on a hand-moved clock.
+ */
+class RateLimitFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, 1000, Duration.ofMinutes(1),
+                new RateLimitProperties.Limit(2, 0.5),
+                new RateLimitProperties.Limit(1, 1),
+                new RateLimitProperties.Limit(1, 1));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(properties, meterRegistry, nanos::get);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+        authenticate("alice");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void overBurst_RejectedWithRetryAfter() throws Exception {
+        // Arrange
+        assertEquals(200, send("GET", "/api/reviews/stats/1", "10.0.0.1").getStatus());
+        assertEquals(200, send("GET", "/api/reviews/stats/1", "10.0.0.1").getStatus());
+
+        // Act
+        MockHttpServletResponse response = send("GET", "/api/reviews/stats/1", "10.0.0.1");
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("TOO_MANY_REQUESTS"));
+        assertEquals(1.0, meterRegistry.get("reviews.rate_limit.throttled")
+                .tag("endpoint_class", "reads").counter().count());
+        assertEquals(0.0, meterRegistry.get("reviews.rate_limit.throttled")
+                .tag("endpoint_class", "writes").counter().count());
+    }
+
+    @Test
+    void tokensRefillOverTime() throws Exception {
+        // Arrange
+        send("POST", "/api/reviews", "10.0.0.1");
+        assertEquals(429, send("POST", "/api/reviews", "10.0.0.1").getStatus());
+
+        // Act
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        int early = send("POST", "/api/reviews", "10.0.0.1").getStatus();
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        int onTime = send("POST", "/api/reviews", "10.0.0.1").getStatus();
+
+        // Assert
+        assertEquals(429, early);
+        assertEquals(200, onTime);
+    }
+
+    @Test
+    void bucketsAreSeparatePerEndpointClassPrincipalAndAddress() throws Exception {
+        // Arrange
+        send("POST", "/api/reviews/bulk", "10.0.0.1");
+        assertEquals(429, send("POST", "/api/reviews/async", "10.0.0.1").getStatus());
+
+        // Act & Assert
+        assertEquals(200, send("GET", "/api/reviews/room/1", "10.0.0.1").getStatus());
+        assertEquals(200, send("GET", "/api/config/reviews", "10.0.0.1").getStatus());
+        assertEquals(200, send("POST", "/api/reviews", "10.0.0.2").getStatus());
+        authenticate("bob");
+        assertEquals(200, send("POST", "/api/reviews", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void healthActuatorAndPreflightAreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, send("GET", "/actuator/health", "10.0.0.1").getStatus());
+            assertEquals(200, send("GET", "/health", "10.0.0.1").getStatus());
+            assertEquals(200, send("OPTIONS", "/api/reviews", "10.0.0.1").getStatus());
+        }
+        assertEquals(0, rateLimiter.clients());
+    }
+
+    @Test
+    void idleBucketsAreEvicted() throws Exception {
+        // Arrange
+        send("POST", "/api/reviews", "10.0.0.1");
+        send("GET", "/api/reviews/room/1", "10.0.0.2");
+        assertEquals(2, rateLimiter.clients());
+
+        // Act
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // Assert
+        assertEquals(0, rateLimiter.clients());
+        assertEquals(0.0, meterRegistry.get("reviews.rate_limit.clients").gauge().value());
+    }
+
+    @Test
+    void concurrentRequests_NeverAdmitMoreThanTheBurst() throws Exception {
+        // Arrange
+        int threads = 16;
+        AtomicLong admitted = new AtomicLong();
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            clients.add(new Thread(() -> {
+                if (rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, "alice", "10.0.0.1") == 0) {
+                    admitted.incrementAndGet();
+                }
+            }));
+        }
+
+        // Act
+        clients.forEach(Thread::start);
+        for (Thread client : clients) {
+            client.join();
+        }
+
+        // Assert
+        assertEquals(2, admitted.get());
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String address) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
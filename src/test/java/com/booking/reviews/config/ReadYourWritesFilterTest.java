@@ -0,0 +1,107 @@
+package com.booking.reviews.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    void successfulWrite_SetsCookieWhenTheBodyIsWritten() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reviews");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(201);
+            res.getWriter().write("{}");
+            res.flushBuffer();
+        });
+
+        // Assert
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        long pinnedUntil = Long.parseLong(cookie.getValue());
+        assertTrue(pinnedUntil >= before + 5000 && pinnedUntil <= System.currentTimeMillis() + 5000);
+        assertEquals(5, cookie.getMaxAge());
+    }
+
+    @Test
+    void successfulWriteWithoutBody_SetsCookie() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/reviews/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        // Assert
+        assertNotNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    void rejectedWrite_NoCookie() throws Exception {
+        // Arrange
+        MockHttpServletRequest invalid = new MockHttpServletRequest("POST", "/api/reviews");
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+        MockHttpServletRequest unauthenticated = new MockHttpServletRequest("POST", "/api/reviews");
+        MockHttpServletResponse unauthenticatedResponse = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(invalid, invalidResponse, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(400);
+            res.getWriter().write("{\"code\":\"VALIDATION_ERROR\"}");
+            res.flushBuffer();
+        });
+        filter.doFilter(unauthenticated, unauthenticatedResponse,
+                (req, res) -> ((HttpServletResponse) res).sendError(401));
+
+        // Assert
+        assertNull(invalidResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+        assertNull(unauthenticatedResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    void readWithinWindow_PinnedToPrimary() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reviews/room/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() + 3000)));
+
+        // Act
+        boolean pinned = pinnedDuring(request);
+
+        // Assert
+        assertTrue(pinned);
+    }
+
+    @Test
+    void readWithDeadlineBeyondTheWindow_NotPinned() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reviews/room/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(Long.MAX_VALUE)));
+
+        // Act
+        boolean pinned = pinnedDuring(request);
+
+        // Assert
+        assertFalse(pinned);
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(PrimaryReads.isPinned()));
+        return pinned.get();
+    }
+}
@@ -0,0 +1,117 @@
+package com.booking.reviews.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; each knows its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource flakyReplica = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("Connection refused");
+                }
+                return super.getConnection();
+            }
+        };
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", flakyReplica), Duration.ofSeconds(1));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP TABLE node");
+        new JdbcTemplate(replica).execute("DROP TABLE node");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica_OthersUsePrimary() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> nodeName()));
+        assertEquals("primary", writeTransaction.execute(status -> nodeName()));
+        assertEquals("primary", nodeName());
+    }
+
+    @Test
+    void pinnedReadsUsePrimary() {
+        try (PrimaryReads.Pin pin = PrimaryReads.pin()) {
+            assertEquals("primary", readOnlyTransaction.execute(status -> nodeName()));
+        }
+        assertFalse(PrimaryReads.isPinned());
+        assertEquals("replica", readOnlyTransaction.execute(status -> nodeName()));
+    }
+
+    @Test
+    void failingReplicaFallsBackToPrimaryUntilHealthCheckPasses() {
+        replicaDown.set(true);
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> nodeName()));
+        assertFalse(routing.isHealthy("replica-1"));
+
+        // Out of rotation even after it recovers, until the next health check
+        replicaDown.set(false);
+        assertEquals("primary", readOnlyTransaction.execute(status -> nodeName()));
+
+        routing.checkReplicas();
+        assertTrue(routing.isHealthy("replica-1"));
+        assertEquals("replica", readOnlyTransaction.execute(status -> nodeName()));
+    }
+
+    @Test
+    void healthCheckTakesUnreachableReplicaOutOfRotation() {
+        replicaDown.set(true);
+        routing.checkReplicas();
+
+        assertFalse(routing.isHealthy("replica-1"));
+        replicaDown.set(false);
+        assertEquals("primary", readOnlyTransaction.execute(status -> nodeName()));
+    }
+
+    private String nodeName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
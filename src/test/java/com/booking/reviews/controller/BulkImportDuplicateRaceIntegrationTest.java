@@ -0,0 +1,177 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.entity.*;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.ReferenceDataCacheService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Reviews a booking of a bulk import on its own while the import runs: after the import has loaded
+ * the existing reviews and before it inserts. Not transactional, so both requests commit on their
+ * own and the import's insert really hits the unique key of {@code booking_id}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BulkImportDuplicateRaceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelTypeRepository hotelTypeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Autowired
+    private HotelReviewStatsRepository hotelReviewStatsRepository;
+
+    @Autowired
+    private RatingTrendBucketRepository ratingTrendBucketRepository;
+
+    @Autowired
+    private ReferenceDataCacheService referenceDataCacheService;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private Room testRoom;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        cleanUp();
+
+        HotelType hotelType = hotelTypeRepository.save(HotelType.builder()
+                .typeName("Luxury")
+                .reviewEnabled(true)
+                .build());
+        Hotel hotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Test Hotel")
+                .build());
+        testRoom = roomRepository.save(Room.builder()
+                .hotelId(hotel.getHotelId())
+                .roomNumber("101")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ratingTrendBucketRepository.deleteAll();
+        hotelReviewStatsRepository.deleteAll();
+        roomReviewStatsRepository.deleteAll();
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        hotelTypeRepository.deleteAll();
+        referenceDataCacheService.evictAll();
+    }
+
+    @Test
+    void bookingReviewedDuringImport_ReportedAsDuplicate() throws Exception {
+        Booking imported = booking("guest@example.com");
+        Booking contested = booking("other@example.com");
+        String single = objectMapper.writeValueAsString(review(contested, "Submitted on its own"));
+        String bulk = objectMapper.writeValueAsString(Map.of("reviews", List.of(
+                review(imported, "Imported"), review(contested, "Imported"))));
+
+        Answer<?> repository = mockingDetails(reviewRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean raced = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Object reviewed = repository.answer(invocation);
+            if (raced.compareAndSet(false, true)) {
+                ExecutorService client = Executors.newSingleThreadExecutor();
+                try {
+                    assertEquals(201, client.submit(() -> mockMvc.perform(post("/api/reviews")
+                                    .with(user("test"))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(single))
+                            .andReturn().getResponse().getStatus()).get(30, TimeUnit.SECONDS));
+                } finally {
+                    client.shutdownNow();
+                }
+            }
+            return reviewed;
+        }).when(reviewRepository).findReviewedBookingIds(anyCollection());
+
+        String response = mockMvc.perform(post("/api/reviews/bulk")
+                        .with(user("test"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bulk))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode result = objectMapper.readTree(response);
+        assertEquals(1, result.path("succeeded").asInt(), response);
+        assertEquals("CREATED", result.path("results").path(0).path("status").asText());
+        assertEquals("DUPLICATE_REVIEW", result.path("results").path(1).path("code").asText());
+        assertEquals(2, reviewRepository.count());
+        assertEquals(2L, roomReviewStatsRepository.findById(testRoom.getRoomId()).orElseThrow().getTotalReviews());
+    }
+
+    private Booking booking(String guestEmail) {
+        return bookingRepository.save(Booking.builder()
+                .roomId(testRoom.getRoomId())
+                .guestEmail(guestEmail)
+                .guestName("Guest")
+                .build());
+    }
+
+    private static ReviewRequest review(Booking booking, String comment) {
+        return ReviewRequest.builder()
+                .roomId(booking.getRoomId())
+                .bookingId(booking.getBookingId())
+                .rating((short) 4)
+                .comment(comment)
+                .reviewerEmail(booking.getGuestEmail())
+                .reviewerName(booking.getGuestName())
+                .build();
+    }
+}
@@ -1,19 +1,28 @@
 package com.booking.reviews.controller;
 
+import com.booking.reviews.config.CacheConfig;
 import com.booking.reviews.entity.*;
 import com.booking.reviews.repository.*;
 import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.ReferenceDataCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +42,15 @@ class ConfigControllerIntegrationTest {
     @Autowired
     private HotelTypeRepository hotelTypeRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReferenceDataCacheService referenceDataCacheService;
+
     @MockBean
     private FeatureToggleService featureToggleService;
 
@@ -77,4 +95,70 @@ class ConfigControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
     }
+
+    @Test
+    @WithMockUser
+    void getReviewConfig_ReferenceDataServedFromCache() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scope").value("ENABLED"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        referenceDataCacheService.evictAll();
+        statistics.clear();
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewConfig_EntityWriteEvictsCachedRowWhenTransactionEnds() throws Exception {
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk());
+        Cache hotelTypes = cacheManager.getCache(CacheConfig.HOTEL_TYPES);
+        assertNotNull(hotelTypes.get(testHotelType.getHotelTypeId()));
+
+        testHotelType.setReviewEnabled(false);
+        hotelTypeRepository.saveAndFlush(testHotelType);
+        assertNotNull(hotelTypes.get(testHotelType.getHotelTypeId()));
+
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+        assertNull(hotelTypes.get(testHotelType.getHotelTypeId()));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewConfigs_BatchWithUnknownHotel() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/config/reviews/batch")
+                        .param("hotelIds", testHotel.getHotelId() + ",99999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + testHotel.getHotelId() + "'].scope").value("ENABLED"))
+                .andExpect(jsonPath("$.99999.scope").value("NOT_FOUND"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewConfigs_InvalidHotelIds() throws Exception {
+        mockMvc.perform(get("/api/config/reviews/batch")
+                        .param("hotelIds", "1,abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
 }
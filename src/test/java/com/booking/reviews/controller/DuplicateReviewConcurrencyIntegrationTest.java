@@ -0,0 +1,168 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.entity.*;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.ReferenceDataCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Submits many reviews for one booking at the same time. Not transactional: every request commits
+ * on its own, so the submissions really race on the unique key of {@code booking_id}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DuplicateReviewConcurrencyIntegrationTest {
+
+    private static final int SUBMISSIONS = 32;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelTypeRepository hotelTypeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Autowired
+    private HotelReviewStatsRepository hotelReviewStatsRepository;
+
+    @Autowired
+    private RatingTrendBucketRepository ratingTrendBucketRepository;
+
+    @Autowired
+    private ReferenceDataCacheService referenceDataCacheService;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private Room testRoom;
+    private Booking testBooking;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        cleanUp();
+
+        HotelType hotelType = hotelTypeRepository.save(HotelType.builder()
+                .typeName("Luxury")
+                .reviewEnabled(true)
+                .build());
+        Hotel hotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Test Hotel")
+                .build());
+        testRoom = roomRepository.save(Room.builder()
+                .hotelId(hotel.getHotelId())
+                .roomNumber("101")
+                .build());
+        testBooking = bookingRepository.save(Booking.builder()
+                .roomId(testRoom.getRoomId())
+                .guestEmail("guest@example.com")
+                .guestName("John Doe")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ratingTrendBucketRepository.deleteAll();
+        hotelReviewStatsRepository.deleteAll();
+        roomReviewStatsRepository.deleteAll();
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        hotelTypeRepository.deleteAll();
+        referenceDataCacheService.evictAll();
+    }
+
+    @Test
+    void concurrentSubmissionsForOneBooking_ExactlyOneSucceeds() throws Exception {
+        String body = objectMapper.writeValueAsString(ReviewRequest.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(testBooking.getBookingId())
+                .rating((short) 4)
+                .comment("Submitted twice by an impatient guest")
+                .reviewerEmail("guest@example.com")
+                .reviewerName("John Doe")
+                .build());
+
+        ExecutorService clients = Executors.newFixedThreadPool(SUBMISSIONS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        long elapsedNanos;
+        try {
+            List<Future<Integer>> responses = new ArrayList<>(SUBMISSIONS);
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                responses.add(clients.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/reviews")
+                                    .with(user("test"))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<Integer> response : responses) {
+                statuses.merge(response.get(30, TimeUnit.SECONDS), 1, Integer::sum);
+            }
+            elapsedNanos = System.nanoTime() - started;
+        } finally {
+            clients.shutdownNow();
+        }
+
+        System.out.printf("%d concurrent submissions for one booking: %s in %d ms (%.0f requests/s)%n",
+                SUBMISSIONS, statuses, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                SUBMISSIONS * 1e9 / elapsedNanos);
+
+        assertEquals(Map.of(201, 1, 409, SUBMISSIONS - 1), statuses);
+        assertEquals(1, reviewRepository.count());
+        assertEquals(1L, roomReviewStatsRepository.findById(testRoom.getRoomId()).orElseThrow().getTotalReviews());
+    }
+}
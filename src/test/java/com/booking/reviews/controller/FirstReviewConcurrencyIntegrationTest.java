@@ -0,0 +1,200 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.entity.*;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.ReferenceDataCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Submits the first reviews of a room or hotel at the same time, each for its own booking. Not
+ * transactional: every request commits on its own, so the submissions really race to create the
+ * aggregate rows. Statement budgets stay on: the retries of the requests that lose must fit too.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FirstReviewConcurrencyIntegrationTest {
+
+    private static final int SUBMISSIONS = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelTypeRepository hotelTypeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Autowired
+    private HotelReviewStatsRepository hotelReviewStatsRepository;
+
+    @Autowired
+    private RatingTrendBucketRepository ratingTrendBucketRepository;
+
+    @Autowired
+    private ReferenceDataCacheService referenceDataCacheService;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private Hotel testHotel;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        cleanUp();
+
+        HotelType hotelType = hotelTypeRepository.save(HotelType.builder()
+                .typeName("Luxury")
+                .reviewEnabled(true)
+                .build());
+        testHotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Test Hotel")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ratingTrendBucketRepository.deleteAll();
+        hotelReviewStatsRepository.deleteAll();
+        roomReviewStatsRepository.deleteAll();
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        hotelTypeRepository.deleteAll();
+        referenceDataCacheService.evictAll();
+    }
+
+    @Test
+    void concurrentFirstReviewsOfOneHotel_AllCountedInTheRollup() throws Exception {
+        List<String> bodies = new ArrayList<>(SUBMISSIONS);
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            Room room = roomRepository.save(Room.builder()
+                    .hotelId(testHotel.getHotelId())
+                    .roomNumber(String.valueOf(100 + i))
+                    .build());
+            bodies.add(reviewFor(room, i));
+        }
+
+        Map<Integer, Integer> statuses = submitConcurrently(bodies::get);
+
+        assertEquals(Map.of(201, SUBMISSIONS), statuses);
+        HotelReviewStats stats = hotelReviewStatsRepository.findById(testHotel.getHotelId()).orElseThrow();
+        assertEquals((long) SUBMISSIONS, stats.getTotalReviews());
+        assertEquals((long) SUBMISSIONS, stats.getRating4Count());
+    }
+
+    @Test
+    void concurrentFirstReviewsOfOneRoom_AllCountedInTheStats() throws Exception {
+        Room room = roomRepository.save(Room.builder()
+                .hotelId(testHotel.getHotelId())
+                .roomNumber("101")
+                .build());
+        List<String> bodies = new ArrayList<>(SUBMISSIONS);
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            bodies.add(reviewFor(room, i));
+        }
+
+        Map<Integer, Integer> statuses = submitConcurrently(bodies::get);
+
+        assertEquals(Map.of(201, SUBMISSIONS), statuses);
+        RoomReviewStats stats = roomReviewStatsRepository.findById(room.getRoomId()).orElseThrow();
+        assertEquals((long) SUBMISSIONS, stats.getTotalReviews());
+        assertEquals(4L * SUBMISSIONS, stats.getRatingSum());
+    }
+
+    private String reviewFor(Room room, int guest) throws Exception {
+        Booking booking = bookingRepository.save(Booking.builder()
+                .roomId(room.getRoomId())
+                .guestEmail("guest" + guest + "@example.com")
+                .guestName("Guest " + guest)
+                .build());
+        return objectMapper.writeValueAsString(ReviewRequest.builder()
+                .roomId(room.getRoomId())
+                .bookingId(booking.getBookingId())
+                .rating((short) 4)
+                .comment("One of the first reviews")
+                .reviewerEmail(booking.getGuestEmail())
+                .reviewerName(booking.getGuestName())
+                .build());
+    }
+
+    /**
+     * Posts {@code SUBMISSIONS} reviews at once.
+     *
+     * @return the number of responses per status
+     */
+    private Map<Integer, Integer> submitConcurrently(IntFunction<String> bodies) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(SUBMISSIONS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        try {
+            List<Future<Integer>> responses = new ArrayList<>(SUBMISSIONS);
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                String body = bodies.apply(i);
+                responses.add(clients.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/reviews")
+                                    .with(user("test"))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+
+            start.countDown();
+            for (Future<Integer> response : responses) {
+                statuses.merge(response.get(30, TimeUnit.SECONDS), 1, Integer::sum);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,115 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.entity.*;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.service.FeatureToggleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Transactional
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelTypeRepository hotelTypeRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private Hotel testHotel;
+    private Room testRoom;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        HotelType hotelType = hotelTypeRepository.save(HotelType.builder()
+                .typeName("Luxury")
+                .reviewEnabled(true)
+                .build());
+
+        testHotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Test Hotel")
+                .build());
+
+        testRoom = roomRepository.save(Room.builder()
+                .hotelId(testHotel.getHotelId())
+                .roomNumber("101")
+                .build());
+    }
+
+    @Test
+    @WithMockUser
+    void prometheusEndpoint_ExposesServiceRepositoryAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/api/reviews/room/" + testRoom.getRoomId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", "99999"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "service_operation_seconds_count{application=\"review-rating-backend\",exception=\"none\","
+                                + "operation=\"getReviewsByRoomId\",outcome=\"success\",service=\"ReviewService\",}")))
+                .andExpect(content().string(containsString(
+                        "service_operation_seconds_count{application=\"review-rating-backend\","
+                                + "exception=\"ResourceNotFoundException\",operation=\"getReviewConfig\","
+                                + "outcome=\"failure\",service=\"ConfigService\",}")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count{")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_count{")))
+                .andExpect(content().string(containsString("hikaricp_connections_usage_seconds_count{")));
+    }
+
+    @Test
+    void prometheusEndpoint_RequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/info"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    void reviewReadEndpoints_HaveSloBuckets() throws Exception {
+        mockMvc.perform(get("/api/reviews/stats/" + testRoom.getRoomId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("uri=\"/api/reviews/stats/{roomId}\",le=\"0.1\",}")))
+                .andExpect(content().string(not(
+                        containsString("uri=\"/api/config/reviews\",le="))));
+    }
+}
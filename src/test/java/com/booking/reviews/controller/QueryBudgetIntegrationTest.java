@@ -0,0 +1,88 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.config.QueryBudgetFilter;
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelType;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.HotelTypeRepository;
+import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.ReferenceDataCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "query-budget.endpoints[GET\\ /api/config/reviews]=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelTypeRepository hotelTypeRepository;
+
+    @Autowired
+    private ReferenceDataCacheService referenceDataCacheService;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private Hotel testHotel;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        referenceDataCacheService.evictAll();
+
+        HotelType hotelType = hotelTypeRepository.save(HotelType.builder()
+                .typeName("Luxury")
+                .reviewEnabled(true)
+                .build());
+
+        testHotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Test Hotel")
+                .build());
+    }
+
+    @Test
+    @WithMockUser
+    void requestWithinBudget_RecordsStatementCount() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/config/reviews/batch")
+                        .param("hotelIds", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(1L, result.getRequest().getAttribute(QueryBudgetFilter.STATEMENT_COUNT_ATTRIBUTE));
+    }
+
+    @Test
+    @WithMockUser
+    void requestOverBudget_FailsInFailMode() throws Exception {
+        // Cold reference data cache: hotel and hotel type lookups are two statements, over the budget of one
+        mockMvc.perform(get("/api/config/reviews")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("QUERY_BUDGET_EXCEEDED"))
+                .andExpect(jsonPath("$.message").value(
+                        "GET /api/config/reviews executed 2 SQL statements, budget is 1"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.entity.RatingTrendBucket;
+import com.booking.reviews.entity.TrendGranularity;
+import com.booking.reviews.repository.RatingTrendBucketRepository;
+import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.RatingTrendCompactionJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the trend compaction on several "instances" at once, as the cron does in production. Not
+ * transactional: every day is compacted and committed on its own, so the runs really overlap.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RatingTrendCompactionConcurrencyIntegrationTest {
+
+    private static final int INSTANCES = 4;
+    private static final int DAYS = 30;
+    private static final long ROOM_ID = 1L;
+
+    @Autowired
+    private RatingTrendCompactionJob ratingTrendCompactionJob;
+
+    @Autowired
+    private RatingTrendBucketRepository ratingTrendBucketRepository;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private LocalDate firstDay;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        firstDay = LocalDate.now().minusDays(400);
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate day = firstDay.plusDays(i);
+            ratingTrendBucketRepository.save(RatingTrendBucket.builder()
+                    .scope(RatingTrendBucket.ROOM)
+                    .scopeId(ROOM_ID)
+                    .granularity(TrendGranularity.DAY)
+                    .bucketStart(day)
+                    .totalReviews(2L)
+                    .ratingSum(7L)
+                    .rating1Count(0L)
+                    .rating2Count(0L)
+                    .rating3Count(1L)
+                    .rating4Count(1L)
+                    .rating5Count(0L)
+                    .lastReviewAt(day.atTime(12, 0))
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ratingTrendBucketRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentCompactions_FoldEveryDayOnce() throws Exception {
+        ExecutorService instances = Executors.newFixedThreadPool(INSTANCES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> runs = new ArrayList<>(INSTANCES);
+            for (int i = 0; i < INSTANCES; i++) {
+                runs.add(instances.submit(() -> {
+                    start.await();
+                    return ratingTrendCompactionJob.compact(LocalDate.now());
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> run : runs) {
+                run.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            instances.shutdownNow();
+        }
+
+        assertEquals(List.of(), ratingTrendBucketRepository.findBucketStartsBefore(TrendGranularity.DAY, LocalDate.now()));
+        LocalDate lastDay = firstDay.plusDays(DAYS - 1);
+        for (TrendGranularity granularity : List.of(TrendGranularity.WEEK, TrendGranularity.MONTH)) {
+            List<RatingTrendBucket> buckets = ratingTrendBucketRepository.findSeries(RatingTrendBucket.ROOM, ROOM_ID,
+                    List.of(granularity), granularity.bucketStart(firstDay), lastDay);
+            assertEquals(2L * DAYS, buckets.stream().mapToLong(RatingTrendBucket::getTotalReviews).sum(),
+                    granularity + " totals");
+            assertEquals(7L * DAYS, buckets.stream().mapToLong(RatingTrendBucket::getRatingSum).sum(),
+                    granularity + " rating sums");
+        }
+    }
+}
@@ -4,7 +4,13 @@ import com.booking.reviews.dto.ReviewRequest;
 import com.booking.reviews.entity.*;
 import com.booking.reviews.repository.*;
 import com.booking.reviews.service.FeatureToggleService;
+import com.booking.reviews.service.RatingTrendCompactionJob;
+import com.booking.reviews.service.RoomLeaderboardService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +23,15 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,6 +63,21 @@ class ReviewControllerIntegrationTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomLeaderboardService roomLeaderboardService;
+
+    @Autowired
+    private RatingTrendBucketRepository ratingTrendBucketRepository;
+
+    @Autowired
+    private RatingTrendCompactionJob ratingTrendCompactionJob;
+
     @MockBean
     private FeatureToggleService featureToggleService;
 
@@ -62,6 +92,7 @@ class ReviewControllerIntegrationTest {
         when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
 
         // Clean up
+        roomReviewStatsRepository.deleteAll();
         reviewRepository.deleteAll();
         bookingRepository.deleteAll();
         roomRepository.deleteAll();
@@ -165,4 +196,585 @@ class ReviewControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalReviews").exists())
                 .andExpect(jsonPath("$.averageRating").exists());
     }
+
+    @Test
+    @WithMockUser
+    void getReviewStats_ReflectsReviewCreatedThroughApi() throws Exception {
+        ReviewRequest request = ReviewRequest.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(testBooking.getBookingId())
+                .rating((short) 4)
+                .reviewerEmail("guest@example.com")
+                .build();
+
+        mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        assertTrue(roomReviewStatsRepository.existsById(testRoom.getRoomId()));
+
+        mockMvc.perform(get("/api/reviews/stats/{roomId}", testRoom.getRoomId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalReviews").value(1))
+                .andExpect(jsonPath("$.averageRating").value(4.0))
+                .andExpect(jsonPath("$.ratingDistribution.4").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void createReviews_BulkImportBatchesInserts() throws Exception {
+        List<ReviewRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .roomId(testRoom.getRoomId())
+                    .guestEmail("bulk" + i + "@example.com")
+                    .guestName("Bulk Guest " + i)
+                    .build());
+            requests.add(ReviewRequest.builder()
+                    .roomId(testRoom.getRoomId())
+                    .bookingId(booking.getBookingId())
+                    .rating((short) (i % 5 + 1))
+                    .reviewerEmail("bulk" + i + "@example.com")
+                    .build());
+        }
+        requests.add(ReviewRequest.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(99999L)
+                .rating((short) 5)
+                .reviewerEmail("nobody@example.com")
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/reviews/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("reviews", requests))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(31))
+                .andExpect(jsonPath("$.succeeded").value(30))
+                .andExpect(jsonPath("$.results[30].code").value("RESOURCE_NOT_FOUND"))
+                .andExpect(jsonPath("$.results[30].message").value("Booking not found: 99999"));
+
+        // 5 set-based lookups, sequence, one insert batch and the aggregates, not one round trip per review
+        assertTrue(statistics.getPrepareStatementCount() < 15,
+                "statements: " + statistics.getPrepareStatementCount());
+        assertEquals(30L, reviewRepository.countByRoomId(testRoom.getRoomId()));
+        assertEquals(30L, roomReviewStatsRepository.findById(testRoom.getRoomId()).orElseThrow().getTotalReviews());
+    }
+
+    @Test
+    @WithMockUser
+    void exportReviews_StreamsNdjsonAndCsv() throws Exception {
+        reviewRepository.save(Review.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(testBooking.getBookingId())
+                .rating((short) 4)
+                .comment("Quiet, clean")
+                .build());
+
+        String ndjson = mockMvc.perform(get("/api/reviews/export")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode row = objectMapper.readTree(ndjson.split("\n")[0]);
+        assertEquals(testBooking.getBookingId(), row.get("bookingId").asLong());
+        assertEquals("guest@example.com", row.get("reviewerEmail").asText());
+
+        String csv = mockMvc.perform(get("/api/reviews/export")
+                        .param("roomId", String.valueOf(testRoom.getRoomId()))
+                        .param("from", LocalDateTime.now().toLocalDate().toString())
+                        .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reviews.csv\""))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = csv.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains(",\"Quiet, clean\","));
+
+        String outOfRange = mockMvc.perform(get("/api/reviews/export")
+                        .param("to", "2000-01-01"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals("", outOfRange);
+    }
+
+    @Test
+    @WithMockUser
+    void exportReviews_InvalidFormat() throws Exception {
+        mockMvc.perform(get("/api/reviews/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @WithMockUser
+    void createReviews_EmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/reviews/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"reviews\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @WithMockUser
+    void getHotelAndHotelTypeStats_ReflectReviewCreatedThroughApi() throws Exception {
+        ReviewRequest request = ReviewRequest.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(testBooking.getBookingId())
+                .rating((short) 3)
+                .reviewerEmail("guest@example.com")
+                .build();
+
+        mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/reviews/stats/hotel/{hotelId}", testHotel.getHotelId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("HOTEL"))
+                .andExpect(jsonPath("$.id").value(testHotel.getHotelId()))
+                .andExpect(jsonPath("$.totalReviews").value(1))
+                .andExpect(jsonPath("$.ratingDistribution.3").value(1));
+
+        mockMvc.perform(get("/api/reviews/stats/hotel-type/{hotelTypeId}", testHotelType.getHotelTypeId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("HOTEL_TYPE"))
+                .andExpect(jsonPath("$.totalReviews").value(1))
+                .andExpect(jsonPath("$.averageRating").value(3.0));
+    }
+
+    @Test
+    @WithMockUser
+    void getHotelStats_HotelNotFound() throws Exception {
+        mockMvc.perform(get("/api/reviews/stats/hotel/{hotelId}", 99999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewStatsForRooms_SingleGroupByQuery() throws Exception {
+        Room otherRoom = roomRepository.save(Room.builder()
+                .hotelId(testHotel.getHotelId())
+                .roomNumber("102")
+                .build());
+        reviewRepository.saveAndFlush(Review.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(testBooking.getBookingId())
+                .rating((short) 4)
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/reviews/stats")
+                        .param("roomIds", otherRoom.getRoomId() + "," + testRoom.getRoomId() + ",99999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].roomId").value(otherRoom.getRoomId()))
+                .andExpect(jsonPath("$[0].totalReviews").value(0))
+                .andExpect(jsonPath("$[1].roomId").value(testRoom.getRoomId()))
+                .andExpect(jsonPath("$[1].totalReviews").value(1))
+                .andExpect(jsonPath("$[1].ratingDistribution.4").value(1));
+
+        // room existence + one GROUP BY over all rooms
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewStatsForRooms_InvalidRoomIds() throws Exception {
+        mockMvc.perform(get("/api/reviews/stats").param("roomIds", "1,-2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewsByRoomId_StatementCountIndependentOfPageSize() throws Exception {
+        for (int i = 0; i < 60; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .roomId(testRoom.getRoomId())
+                    .guestEmail("guest" + i + "@example.com")
+                    .guestName("Guest " + i)
+                    .build());
+            reviewRepository.save(Review.builder()
+                    .roomId(testRoom.getRoomId())
+                    .bookingId(booking.getBookingId())
+                    .rating((short) (i % 5 + 1))
+                    .build());
+        }
+
+        countStatements(5); // warms the room near-cache
+        long smallPage = countStatements(5);
+        long largePage = countStatements(50);
+
+        // page select + count; the room lookup is served from the near-cache
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    private long countStatements(int pageSize) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/reviews/room/{roomId}", testRoom.getRoomId())
+                        .param("page", "0")
+                        .param("size", String.valueOf(pageSize)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(pageSize))
+                .andExpect(jsonPath("$.content[0].reviewerEmail").exists());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewsByRoomId_CursorModeWalksAllPagesInOrder() throws Exception {
+        List<Review> saved = seedReviews(23);
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Review::getCreatedAt).thenComparing(Review::getReviewId).reversed())
+                .map(Review::getReviewId)
+                .toList();
+
+        assertEquals(expected, walkCursorPages(null, 5));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewsByRoomId_CursorModeByRatingAscending() throws Exception {
+        List<Review> saved = seedReviews(23);
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Review::getRating)
+                        .thenComparing(Comparator.comparing(Review::getCreatedAt)
+                                .thenComparing(Review::getReviewId).reversed()))
+                .map(Review::getReviewId)
+                .toList();
+
+        assertEquals(expected, walkCursorPages("rating,asc", 4));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewsByRoomId_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/reviews/room/{roomId}", testRoom.getRoomId())
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewsByRoomId_CursorPageSizeOutOfRange() throws Exception {
+        for (String size : List.of("0", "-1", "101", String.valueOf(Integer.MAX_VALUE))) {
+            mockMvc.perform(get("/api/reviews/room/{roomId}", testRoom.getRoomId())
+                            .param("cursor", "")
+                            .param("size", size))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void searchReviews_MatchesTermsAndPhrasesWithFilters() throws Exception {
+        Hotel otherHotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(testHotelType.getHotelTypeId())
+                .hotelName("Other Hotel")
+                .build());
+        Room otherRoom = roomRepository.save(Room.builder()
+                .hotelId(otherHotel.getHotelId())
+                .roomNumber("201")
+                .build());
+        Review broken = saveReview(testRoom, 1, "The AC broken all week, lots of noise", LocalDateTime.of(2025, 6, 1, 10, 0));
+        Review noisy = saveReview(testRoom, 3, "Street noise at night", LocalDateTime.of(2025, 7, 1, 10, 0));
+        saveReview(testRoom, 5, "Quiet and clean, AC worked", LocalDateTime.of(2025, 8, 1, 10, 0));
+        Review elsewhere = saveReview(otherRoom, 2, "Noise from the bar downstairs", LocalDateTime.of(2025, 9, 1, 10, 0));
+        // Write the pending inserts now, so the search's statement budget only sees the search
+        reviewRepository.flush();
+
+        mockMvc.perform(get("/api/reviews/search").param("q", "NOISE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].reviewId").value(elsewhere.getReviewId()))
+                .andExpect(jsonPath("$.results[0].hotelId").value(otherHotel.getHotelId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/api/reviews/search").param("q", "\"AC broken\"").param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].reviewId").value(broken.getReviewId()))
+                .andExpect(jsonPath("$.results[0].reviewerEmail").exists());
+
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise -AC")
+                        .param("hotelId", String.valueOf(testHotel.getHotelId())))
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].reviewId").value(noisy.getReviewId()));
+
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise").param("rating", "1"))
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].reviewId").value(broken.getReviewId()));
+
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise")
+                        .param("roomId", String.valueOf(testRoom.getRoomId()))
+                        .param("from", "2025-07-01").param("to", "2025-07-01"))
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].reviewId").value(noisy.getReviewId()));
+
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise").param("size", "2"))
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise").param("size", "2").param("page", "1"))
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].reviewId").value(broken.getReviewId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void searchReviews_InvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/reviews/search").param("q", "  "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise").param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(get("/api/reviews/search").param("q", "noise").param("rating", "6"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @WithMockUser
+    void getLeaderboards_RankRoomsWithEnoughReviews() throws Exception {
+        Room suite = roomRepository.save(Room.builder().hotelId(testHotel.getHotelId()).roomNumber("201").build());
+        Room attic = roomRepository.save(Room.builder().hotelId(testHotel.getHotelId()).roomNumber("301").build());
+        saveRoomStats(testRoom, 6, 24);
+        saveRoomStats(suite, 5, 25);
+        // Below the default threshold of five reviews
+        saveRoomStats(attic, 2, 10);
+        // Committed writes reach the leaderboard through an after-commit event, which never fires
+        // inside this rolled back test transaction
+        roomLeaderboardService.rebuild();
+
+        mockMvc.perform(get("/api/reviews/leaderboard/hotel/{hotelId}", testHotel.getHotelId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("HOTEL"))
+                .andExpect(jsonPath("$.minReviews").value(5))
+                .andExpect(jsonPath("$.rooms.length()").value(2))
+                .andExpect(jsonPath("$.rooms[0].rank").value(1))
+                .andExpect(jsonPath("$.rooms[0].roomId").value(suite.getRoomId()))
+                .andExpect(jsonPath("$.rooms[0].averageRating").value(5.0))
+                .andExpect(jsonPath("$.rooms[1].roomId").value(testRoom.getRoomId()))
+                .andExpect(jsonPath("$.rooms[1].totalReviews").value(6));
+
+        mockMvc.perform(get("/api/reviews/leaderboard/hotel-type/{hotelTypeId}", testHotelType.getHotelTypeId())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("HOTEL_TYPE"))
+                .andExpect(jsonPath("$.rooms.length()").value(1))
+                .andExpect(jsonPath("$.rooms[0].hotelId").value(testHotel.getHotelId()));
+    }
+
+    @Test
+    @WithMockUser
+    void getLeaderboards_InvalidLimitAndUnknownHotel() throws Exception {
+        mockMvc.perform(get("/api/reviews/leaderboard/hotel/{hotelId}", testHotel.getHotelId()).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(get("/api/reviews/leaderboard/hotel/{hotelId}", testHotel.getHotelId()).param("limit", "51"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(get("/api/reviews/leaderboard/hotel-type/{hotelTypeId}", 99999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTrends_ReflectReviewCreatedThroughApi() throws Exception {
+        ReviewRequest request = ReviewRequest.builder()
+                .roomId(testRoom.getRoomId())
+                .bookingId(testBooking.getBookingId())
+                .rating((short) 4)
+                .reviewerEmail("guest@example.com")
+                .build();
+
+        mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(get("/api/reviews/trends/room/{roomId}", testRoom.getRoomId())
+                        .param("granularity", "day")
+                        .param("from", today.minusDays(2).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("ROOM"))
+                .andExpect(jsonPath("$.granularity").value("DAY"))
+                .andExpect(jsonPath("$.points.length()").value(3))
+                .andExpect(jsonPath("$.points[0].totalReviews").value(0))
+                .andExpect(jsonPath("$.points[2].bucketStart").value(today.toString()))
+                .andExpect(jsonPath("$.points[2].totalReviews").value(1))
+                .andExpect(jsonPath("$.points[2].ratingDistribution.4").value(1));
+
+        // Week and month points include day buckets that have not been compacted yet
+        mockMvc.perform(get("/api/reviews/trends/hotel/{hotelId}", testHotel.getHotelId())
+                        .param("granularity", "month")
+                        .param("from", today.toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("HOTEL"))
+                .andExpect(jsonPath("$.points.length()").value(1))
+                .andExpect(jsonPath("$.points[0].bucketStart").value(today.withDayOfMonth(1).toString()))
+                .andExpect(jsonPath("$.points[0].totalReviews").value(1))
+                .andExpect(jsonPath("$.points[0].averageRating").value(4.0));
+    }
+
+    @Test
+    @WithMockUser
+    void getTrends_ServeCompactedDaysFromWeekAndMonthBuckets() throws Exception {
+        LocalDate day = LocalDate.now().minusDays(200);
+        ratingTrendBucketRepository.save(RatingTrendBucket.builder()
+                .scope(RatingTrendBucket.ROOM)
+                .scopeId(testRoom.getRoomId())
+                .granularity(TrendGranularity.DAY)
+                .bucketStart(day)
+                .totalReviews(2L)
+                .ratingSum(7L)
+                .rating1Count(0L)
+                .rating2Count(0L)
+                .rating3Count(1L)
+                .rating4Count(1L)
+                .rating5Count(0L)
+                .lastReviewAt(day.atTime(12, 0))
+                .build());
+
+        assertEquals(1, ratingTrendCompactionJob.compact(LocalDate.now()));
+        assertTrue(ratingTrendBucketRepository.findByGranularityAndBucketStart(TrendGranularity.DAY, day).isEmpty());
+
+        mockMvc.perform(get("/api/reviews/trends/room/{roomId}", testRoom.getRoomId())
+                        .param("granularity", "week")
+                        .param("from", day.toString())
+                        .param("to", day.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points[0].bucketStart").value(TrendGranularity.WEEK.bucketStart(day).toString()))
+                .andExpect(jsonPath("$.points[0].totalReviews").value(2))
+                .andExpect(jsonPath("$.points[0].averageRating").value(3.5));
+
+        mockMvc.perform(get("/api/reviews/trends/room/{roomId}", testRoom.getRoomId())
+                        .param("granularity", "month")
+                        .param("from", day.toString())
+                        .param("to", day.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points[0].totalReviews").value(2))
+                .andExpect(jsonPath("$.points[0].ratingDistribution.3").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void getTrends_InvalidParametersAndUnknownRoom() throws Exception {
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(get("/api/reviews/trends/room/{roomId}", testRoom.getRoomId())
+                        .param("granularity", "hour")
+                        .param("from", today.toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(get("/api/reviews/trends/room/{roomId}", testRoom.getRoomId())
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        // Older days only exist as week and month buckets
+        mockMvc.perform(get("/api/reviews/trends/room/{roomId}", testRoom.getRoomId())
+                        .param("granularity", "day")
+                        .param("from", today.minusDays(200).toString())
+                        .param("to", today.minusDays(190).toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(get("/api/reviews/trends/hotel/{hotelId}", 99999L)
+                        .param("from", today.toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
+    }
+
+    private void saveRoomStats(Room room, long totalReviews, long ratingSum) {
+        roomReviewStatsRepository.save(RoomReviewStats.builder()
+                .roomId(room.getRoomId())
+                .totalReviews(totalReviews)
+                .ratingSum(ratingSum)
+                .rating1Count(0L)
+                .rating2Count(0L)
+                .rating3Count(0L)
+                .rating4Count(0L)
+                .rating5Count(0L)
+                .build());
+    }
+
+    private Review saveReview(Room room, int rating, String comment, LocalDateTime createdAt) {
+        Booking booking = bookingRepository.save(Booking.builder()
+                .roomId(room.getRoomId())
+                .guestEmail("guest-" + createdAt.toLocalDate() + "@example.com")
+                .guestName("Guest")
+                .build());
+        return reviewRepository.save(Review.builder()
+                .roomId(room.getRoomId())
+                .bookingId(booking.getBookingId())
+                .rating((short) rating)
+                .comment(comment)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private List<Review> seedReviews(int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 12, 1, 12, 0);
+        List<Review> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .roomId(testRoom.getRoomId())
+                    .guestEmail("guest" + i + "@example.com")
+                    .guestName("Guest " + i)
+                    .build());
+            saved.add(reviewRepository.save(Review.builder()
+                    .roomId(testRoom.getRoomId())
+                    .bookingId(booking.getBookingId())
+                    .rating((short) (i % 5 + 1))
+                    // Every third review shares a timestamp so the reviewId tie-break is exercised
+                    .createdAt(base.plusMinutes(i - i % 3))
+                    .build()));
+        }
+        return saved;
+    }
+
+    private List<Long> walkCursorPages(String sortBy, int size) throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            var request = get("/api/reviews/room/{roomId}", testRoom.getRoomId())
+                    .param("cursor", cursor)
+                    .param("size", String.valueOf(size));
+            if (sortBy != null) {
+                request.param("sortBy", sortBy);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(review -> seen.add(review.get("reviewId").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        }
+        return seen;
+    }
 }
@@ -0,0 +1,130 @@
+package com.booking.reviews.controller;
+
+import com.booking.reviews.config.QueryBudgetFilter;
+import com.booking.reviews.entity.*;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.service.FeatureToggleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET /api/reviews/room/{roomId} with the page cache on, as in production. The test profile turns
+ * it off so that the other controller tests see every request reach the database.
+ */
+@SpringBootTest(properties = "reviews.page-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ReviewPageCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelTypeRepository hotelTypeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    private Room testRoom;
+
+    @BeforeEach
+    void setUp() {
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        HotelType hotelType = hotelTypeRepository.save(HotelType.builder()
+                .typeName("Luxury")
+                .reviewEnabled(true)
+                .build());
+
+        Hotel hotel = hotelRepository.save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Test Hotel")
+                .build());
+
+        testRoom = roomRepository.save(Room.builder()
+                .hotelId(hotel.getHotelId())
+                .roomNumber("101")
+                .build());
+    }
+
+    @Test
+    @WithMockUser
+    void getReviewsByRoomId_RepeatServedFromCacheAndGzippedOnRequest() throws Exception {
+        // Arrange
+        // Twenty reviews serialize to well over gzip-min-bytes, so the page also gets a gzip copy
+        LocalDateTime base = LocalDateTime.of(2025, 12, 1, 12, 0);
+        for (int i = 0; i < 20; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .roomId(testRoom.getRoomId())
+                    .guestEmail("guest" + i + "@example.com")
+                    .guestName("Guest " + i)
+                    .build());
+            reviewRepository.save(Review.builder()
+                    .roomId(testRoom.getRoomId())
+                    .bookingId(booking.getBookingId())
+                    .rating((short) (i % 5 + 1))
+                    .comment("Review " + i + ": quiet room, friendly staff, breakfast could be better")
+                    .createdAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        // Act
+        MvcResult plain = mockMvc.perform(get("/api/reviews/room/{roomId}", testRoom.getRoomId())
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(jsonPath("$.content.length()").value(20))
+                .andExpect(jsonPath("$.totalElements").value(20))
+                .andReturn();
+        MvcResult gzipped = mockMvc.perform(get("/api/reviews/room/{roomId}", testRoom.getRoomId())
+                        .param("size", "20")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+
+        // Assert
+        // The second request is a hit: the same page, with no SQL behind it
+        assertEquals(0L, gzipped.getRequest().getAttribute(QueryBudgetFilter.STATEMENT_COUNT_ATTRIBUTE));
+        try (GZIPInputStream body = new GZIPInputStream(
+                new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(plain.getResponse().getContentAsByteArray(), body.readAllBytes());
+        }
+    }
+}
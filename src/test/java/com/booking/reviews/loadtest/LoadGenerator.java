@@ -0,0 +1,161 @@
+package com.booking.reviews.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator: {@code concurrency} client threads each send a request, wait for
+ * the response and immediately send the next one until the run ends. Only requests that complete
+ * after the warm-up and before the end of the run are recorded.
+ */
+final class LoadGenerator {
+
+    /**
+     * One request to send, labelled with the operation it is reported under.
+     *
+     * @param expectedStatus the status that counts as success, or 0 for any status below 400
+     */
+    record LoadRequest(String operation, HttpRequest request, int expectedStatus) {
+
+        LoadRequest(String operation, HttpRequest request) {
+            this(operation, request, 0);
+        }
+
+        boolean failed(int status) {
+            return expectedStatus > 0 ? status != expectedStatus : status >= 400;
+        }
+    }
+
+    private final HttpClient client;
+    private final int concurrency;
+    private final Duration warmUp;
+    private final Duration duration;
+
+    LoadGenerator(int concurrency, Duration warmUp, Duration duration) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.concurrency = concurrency;
+        this.warmUp = warmUp;
+        this.duration = duration;
+    }
+
+    LoadResult run(String name, Supplier<LoadRequest> requests) throws Exception {
+        return run(name, requests, null);
+    }
+
+    /**
+     * @param statementCounter running count of SQL statements, read when the measurement window
+     *                         opens and closes; {@code null} to leave statements out of the result
+     */
+    LoadResult run(String name, Supplier<LoadRequest> requests, LongSupplier statementCounter) throws Exception {
+        long warmUpEnds = System.nanoTime() + warmUp.toNanos();
+        long runEnds = warmUpEnds + duration.toNanos();
+
+        long[] statements = new long[2];
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        if (statementCounter != null) {
+            sampler.schedule(() -> statements[0] = statementCounter.getAsLong(),
+                    warmUpEnds - System.nanoTime(), TimeUnit.NANOSECONDS);
+            sampler.schedule(() -> statements[1] = statementCounter.getAsLong(),
+                    runEnds - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<String, Recorder>>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> drive(requests, warmUpEnds, runEnds)));
+            }
+
+            Map<String, List<Recorder>> byOperation = new TreeMap<>();
+            for (Future<Map<String, Recorder>> future : futures) {
+                future.get().forEach((operation, recorder) ->
+                        byOperation.computeIfAbsent(operation, key -> new ArrayList<>()).add(recorder));
+            }
+            sampler.shutdown();
+            sampler.awaitTermination(10, TimeUnit.SECONDS);
+
+            List<LoadResult> operations = new ArrayList<>();
+            List<long[]> allLatencies = new ArrayList<>();
+            long allErrors = 0;
+            for (Map.Entry<String, List<Recorder>> entry : byOperation.entrySet()) {
+                List<long[]> latencies = entry.getValue().stream().map(Recorder::latencies).toList();
+                long errors = entry.getValue().stream().mapToLong(recorder -> recorder.errors).sum();
+                operations.add(LoadResult.of(entry.getKey(), latencies, errors, duration));
+                allLatencies.addAll(latencies);
+                allErrors += errors;
+            }
+
+            LoadResult total = LoadResult.of(name, allLatencies, allErrors, duration);
+            return total.withBreakdown(statementCounter != null ? statements[1] - statements[0] : -1, operations);
+        } finally {
+            workers.shutdownNow();
+            sampler.shutdownNow();
+        }
+    }
+
+    private Map<String, Recorder> drive(Supplier<LoadRequest> requests, long warmUpEnds, long runEnds) {
+        Map<String, Recorder> recorders = new HashMap<>();
+        while (System.nanoTime() < runEnds) {
+            LoadRequest next = requests.get();
+            long started = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(next.request(), HttpResponse.BodyHandlers.discarding());
+                failed = next.failed(response.statusCode());
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long finished = System.nanoTime();
+            if (finished >= warmUpEnds && finished < runEnds) {
+                recorders.computeIfAbsent(next.operation(), key -> new Recorder())
+                        .record(finished - started, failed);
+            }
+        }
+        return recorders;
+    }
+
+    /**
+     * Latencies and error count of one worker for one operation.
+     */
+    private static final class Recorder {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long latency, boolean failed) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latency;
+            if (failed) {
+                errors++;
+            }
+        }
+
+        long[] latencies() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.booking.reviews.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of one {@link LoadGenerator} run or of one operation within it. Latencies are in
+ * milliseconds; {@code statements} is the number of SQL statements executed during the
+ * measurement window, or -1 when they were not counted.
+ */
+record LoadResult(String name, long requests, long errors, double throughput,
+                  double p50, double p95, double p99, double max,
+                  long statements, List<LoadResult> operations) {
+
+    static LoadResult of(String name, List<long[]> latencies, long errors, Duration duration) {
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = duration.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        return new LoadResult(name, all.length, errors, all.length / seconds,
+                percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99),
+                all.length == 0 ? 0 : toMillis(all[all.length - 1]), -1, List.of());
+    }
+
+    LoadResult withBreakdown(long statements, List<LoadResult> operations) {
+        return new LoadResult(name, requests, errors, throughput, p50, p95, p99, max,
+                statements, List.copyOf(operations));
+    }
+
+    double statementsPerRequest() {
+        return statements < 0 || requests == 0 ? Double.NaN : statements / (double) requests;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * One line for the run, then one indented line per operation.
+     */
+    String report() {
+        StringBuilder report = new StringBuilder(toString());
+        if (statements >= 0) {
+            report.append(String.format("   %6.2f stmt/req", statementsPerRequest()));
+        }
+        for (LoadResult operation : operations) {
+            report.append(System.lineSeparator()).append("  ").append(operation);
+        }
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s %8d req %6d err %9.1f req/s   p50 %7.2f ms   p95 %7.2f ms   p99 %7.2f ms   max %8.2f ms",
+                name, requests, errors, throughput, p50, p95, p99, max);
+    }
+}
@@ -0,0 +1,102 @@
+package com.booking.reviews.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A named, weighted mix of API operations. Scenarios are written as
+ * {@code name=operation:weight,operation:weight;name=...}, for example
+ * {@code browse=room-reviews:80,room-stats:20}.
+ */
+record LoadScenario(String name, Map<LoadScenario.Operation, Integer> weights) {
+
+    static final String DEFAULTS = "browse=room-reviews:60,room-stats:25,review-config:15;"
+            + "mixed=room-reviews:45,room-stats:20,review-config:15,create-review:20";
+
+    enum Operation {
+        CREATE_REVIEW("create-review"),
+        CREATE_REVIEW_ASYNC("create-review-async"),
+        DUPLICATE_REVIEW("duplicate-review"),
+        ROOM_REVIEWS("room-reviews"),
+        ROOM_STATS("room-stats"),
+        REVIEW_CONFIG("review-config");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+
+        static Operation fromLabel(String label) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.label.equals(label))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + label
+                            + "', expected one of " + Arrays.stream(values()).map(Operation::label).toList()));
+        }
+    }
+
+    LoadScenario {
+        if (weights.isEmpty() || weights.values().stream().anyMatch(weight -> weight <= 0)) {
+            throw new IllegalArgumentException("Scenario '" + name + "' needs at least one operation with a positive weight");
+        }
+        weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+    }
+
+    static List<LoadScenario> parse(String spec) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String scenario : spec.split(";")) {
+            if (scenario.isBlank()) {
+                continue;
+            }
+            String[] nameAndMix = scenario.split("=", 2);
+            if (nameAndMix.length != 2) {
+                throw new IllegalArgumentException("Expected name=operation:weight,... but got '" + scenario + "'");
+            }
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : nameAndMix[1].split(",")) {
+                String[] operationAndWeight = entry.trim().split(":");
+                if (operationAndWeight.length != 2) {
+                    throw new IllegalArgumentException("Expected operation:weight but got '" + entry + "'");
+                }
+                weights.merge(Operation.fromLabel(operationAndWeight[0].trim()),
+                        Integer.parseInt(operationAndWeight[1].trim()), Integer::sum);
+            }
+            scenarios.add(new LoadScenario(nameAndMix[0].trim(), weights));
+        }
+        return scenarios;
+    }
+
+    int totalWeight() {
+        return weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * @param roll uniformly distributed in {@code [0, totalWeight())}
+     */
+    Operation pick(int roll) {
+        int remaining = roll;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            remaining -= entry.getValue();
+            if (remaining < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Roll " + roll + " is outside [0, " + totalWeight() + ")");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder(name).append(" (");
+        weights.forEach((operation, weight) -> mix.append(operation.label()).append(':').append(weight).append(' '));
+        return mix.deleteCharAt(mix.length() - 1).append(')').toString();
+    }
+}
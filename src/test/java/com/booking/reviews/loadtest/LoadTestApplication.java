@@ -0,0 +1,49 @@
+package com.booking.reviews.loadtest;
+
+import com.booking.reviews.ReviewRatingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Boots the full application on a random port with the {@code test} profile (H2, basic auth
+ * {@code test/test}), quiet logging, the global review toggle forced on and statement budgets off,
+ * as in production.
+ */
+final class LoadTestApplication {
+
+    static final String AUTHORIZATION = "Basic " + Base64.getEncoder()
+            .encodeToString("test:test".getBytes(StandardCharsets.UTF_8));
+
+    private LoadTestApplication() {
+    }
+
+    /**
+     * @param overrides extra properties as {@code key=value}; they take precedence over the profile
+     */
+    static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--feature-toggle.local-override.enabled=true",
+                "--query-budget.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.booking.reviews=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        for (String override : overrides) {
+            args.add("--" + override);
+        }
+        return new SpringApplicationBuilder(ReviewRatingApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
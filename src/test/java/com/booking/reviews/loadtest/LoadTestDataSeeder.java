@@ -0,0 +1,251 @@
+package com.booking.reviews.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills an empty schema with synthetic reference data, bookings and reviews through batched JDBC
+ * inserts, then builds the rating aggregates with one {@code INSERT ... SELECT} per table. IDs are
+ * assigned here so the layout is deterministic:
+ * <ul>
+ *     <li>hotel types 1-3; type 3 has reviews disabled</li>
+ *     <li>hotel {@code h} has type {@code 1 + h % 3}</li>
+ *     <li>room {@code r} belongs to hotel {@code 1 + (r - 1) / roomsPerHotel}</li>
+ *     <li>every review has the same ID as its booking; unreviewed spare bookings follow the reviewed ones</li>
+ * </ul>
+ */
+final class LoadTestDataSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] HOTEL_TYPES = {"Luxury", "Business", "Hostel"};
+    private static final long REVIEWS_DISABLED_TYPE = 3;
+
+    /**
+     * Size of the seeded data set. The defaults give 20,000 rooms and one million reviews.
+     */
+    record Scale(int hotels, int roomsPerHotel, int reviewsPerRoom, int spareBookingsPerRoom) {
+
+        static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("loadtest.hotels", 2_000),
+                    Integer.getInteger("loadtest.rooms-per-hotel", 10),
+                    Integer.getInteger("loadtest.reviews-per-room", 50),
+                    Integer.getInteger("loadtest.spare-bookings-per-room", 5));
+        }
+
+        long rooms() {
+            return (long) hotels * roomsPerHotel;
+        }
+
+        long reviews() {
+            return rooms() * reviewsPerRoom;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d hotels, %,d rooms, %,d reviews, %,d spare bookings per room",
+                    hotels, rooms(), reviews(), spareBookingsPerRoom);
+        }
+    }
+
+    /**
+     * What was seeded. Spare bookings are handed out once each, for review creation.
+     */
+    static final class Dataset {
+
+        private final Scale scale;
+        private final long[] spareBookingIds;
+        private final long[] spareBookingRoomIds;
+        private final AtomicInteger nextSpare = new AtomicInteger();
+
+        private Dataset(Scale scale, long[] spareBookingIds, long[] spareBookingRoomIds) {
+            this.scale = scale;
+            this.spareBookingIds = spareBookingIds;
+            this.spareBookingRoomIds = spareBookingRoomIds;
+        }
+
+        Scale scale() {
+            return scale;
+        }
+
+        long roomCount() {
+            return scale.rooms();
+        }
+
+        long hotelCount() {
+            return scale.hotels();
+        }
+
+        /**
+         * @return index into the spare bookings, or -1 once they are used up
+         */
+        int claimSpareBooking() {
+            int index = nextSpare.getAndIncrement();
+            return index < spareBookingIds.length ? index : -1;
+        }
+
+        long spareBookingId(int index) {
+            return spareBookingIds[index];
+        }
+
+        long spareBookingRoomId(int index) {
+            return spareBookingRoomIds[index];
+        }
+
+        int spareBookingsLeft() {
+            return Math.max(spareBookingIds.length - nextSpare.get(), 0);
+        }
+
+        /**
+         * A seeded, already reviewed booking of a room whose hotel type accepts reviews, so
+         * reviewing it again is rejected as a duplicate rather than as disabled.
+         */
+        long reviewedBookingId(ThreadLocalRandom random) {
+            long roomId = spareBookingRoomIds[random.nextInt(spareBookingRoomIds.length)];
+            return (roomId - 1) * scale.reviewsPerRoom() + 1 + random.nextInt(scale.reviewsPerRoom());
+        }
+
+        long reviewedBookingRoomId(long bookingId) {
+            return 1 + (bookingId - 1) / scale.reviewsPerRoom();
+        }
+    }
+
+    private LoadTestDataSeeder() {
+    }
+
+    static Dataset seed(JdbcTemplate jdbc, Scale scale) {
+        List<Object[]> hotelTypes = new ArrayList<>();
+        for (int t = 0; t < HOTEL_TYPES.length; t++) {
+            hotelTypes.add(new Object[]{t + 1L, HOTEL_TYPES[t], t + 1L != REVIEWS_DISABLED_TYPE, timestamp(EPOCH)});
+        }
+        jdbc.batchUpdate("INSERT INTO hotel_types (hotel_type_id, type_name, review_enabled, created_at) VALUES (?, ?, ?, ?)",
+                hotelTypes);
+
+        Inserter hotels = new Inserter(jdbc,
+                "INSERT INTO hotels (hotel_id, hotel_type_id, hotel_name, location, created_at) VALUES (?, ?, ?, ?, ?)");
+        for (long h = 1; h <= scale.hotels(); h++) {
+            hotels.add(h, hotelTypeOf(h), "Hotel " + h, "City " + (h % 100), timestamp(EPOCH));
+        }
+        hotels.flush();
+
+        Inserter rooms = new Inserter(jdbc,
+                "INSERT INTO rooms (room_id, hotel_id, room_number, created_at) VALUES (?, ?, ?, ?)");
+        for (long r = 1; r <= scale.rooms(); r++) {
+            rooms.add(r, hotelOf(r, scale), String.valueOf(101 + (r - 1) % scale.roomsPerHotel()), timestamp(EPOCH));
+        }
+        rooms.flush();
+
+        Inserter bookings = new Inserter(jdbc,
+                "INSERT INTO bookings (booking_id, room_id, guest_name, guest_email, created_at) VALUES (?, ?, ?, ?, ?)");
+        Inserter reviews = new Inserter(jdbc,
+                "INSERT INTO reviews (review_id, room_id, booking_id, rating, comment, created_at) VALUES (?, ?, ?, ?, ?, ?)");
+        long bookingId = 0;
+        for (long r = 1; r <= scale.rooms(); r++) {
+            for (int i = 0; i < scale.reviewsPerRoom(); i++) {
+                bookingId++;
+                Timestamp reviewedAt = timestamp(EPOCH.plusMinutes(bookingId * 37 % 1_000_000));
+                bookings.add(bookingId, r, "Guest " + bookingId, guestEmail(bookingId), reviewedAt);
+                reviews.add(bookingId, r, bookingId, (short) (1 + (bookingId * 7 + r) % 5),
+                        "Synthetic review " + bookingId, reviewedAt);
+            }
+        }
+
+        // Spare bookings go round-robin over rooms whose hotel type accepts reviews, so creating a
+        // review for one of them succeeds.
+        List<Long> spareIds = new ArrayList<>();
+        List<Long> spareRoomIds = new ArrayList<>();
+        for (int round = 0; round < scale.spareBookingsPerRoom(); round++) {
+            for (long r = 1; r <= scale.rooms(); r++) {
+                if (hotelTypeOf(hotelOf(r, scale)) == REVIEWS_DISABLED_TYPE) {
+                    continue;
+                }
+                bookingId++;
+                bookings.add(bookingId, r, "Guest " + bookingId, guestEmail(bookingId), timestamp(EPOCH));
+                spareIds.add(bookingId);
+                spareRoomIds.add(r);
+            }
+        }
+        bookings.flush();
+        reviews.flush();
+
+        restartIdentity(jdbc, "hotel_types", "hotel_type_id", HOTEL_TYPES.length + 1L);
+        restartIdentity(jdbc, "hotels", "hotel_id", scale.hotels() + 1L);
+        restartIdentity(jdbc, "rooms", "room_id", scale.rooms() + 1);
+        restartIdentity(jdbc, "bookings", "booking_id", bookingId + 1);
+        // The review ID sequence hands out blocks of 50 and treats the value it reads as the top of
+        // its block, so leave a full block of headroom above the seeded IDs.
+        jdbc.execute("ALTER SEQUENCE reviews_review_id_seq RESTART WITH " + (scale.reviews() + 100));
+
+        String counts = "COUNT(*), SUM(r.rating), " +
+                "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), " +
+                "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), " +
+                "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END), MAX(r.created_at), CURRENT_TIMESTAMP ";
+        String columns = "total_reviews, rating_sum, rating_1_count, rating_2_count, rating_3_count, " +
+                "rating_4_count, rating_5_count, last_review_at, updated_at";
+        jdbc.execute("INSERT INTO room_review_stats (room_id, " + columns + ") " +
+                "SELECT r.room_id, " + counts + "FROM reviews r GROUP BY r.room_id");
+        jdbc.execute("INSERT INTO hotel_review_stats (hotel_id, hotel_type_id, " + columns + ") " +
+                "SELECT h.hotel_id, h.hotel_type_id, " + counts +
+                "FROM reviews r JOIN rooms rm ON rm.room_id = r.room_id JOIN hotels h ON h.hotel_id = rm.hotel_id " +
+                "GROUP BY h.hotel_id, h.hotel_type_id");
+
+        return new Dataset(scale,
+                spareIds.stream().mapToLong(Long::longValue).toArray(),
+                spareRoomIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    static String guestEmail(long bookingId) {
+        return "guest" + bookingId + "@example.com";
+    }
+
+    static long hotelOf(long roomId, Scale scale) {
+        return 1 + (roomId - 1) / scale.roomsPerHotel();
+    }
+
+    private static long hotelTypeOf(long hotelId) {
+        return 1 + hotelId % HOTEL_TYPES.length;
+    }
+
+    private static void restartIdentity(JdbcTemplate jdbc, String table, String column, long next) {
+        jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return Timestamp.valueOf(value);
+    }
+
+    /**
+     * Buffers rows for one insert statement and sends them in JDBC batches.
+     */
+    private static final class Inserter {
+        private final JdbcTemplate jdbc;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        Inserter(JdbcTemplate jdbc, String sql) {
+            this.jdbc = jdbc;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.booking.reviews.loadtest;
+
+import com.booking.reviews.loadtest.LoadGenerator.LoadRequest;
+import com.booking.reviews.loadtest.LoadScenario.Operation;
+import com.booking.reviews.loadtest.LoadTestDataSeeder.Dataset;
+import com.booking.reviews.loadtest.LoadTestDataSeeder.Scale;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end macro-benchmark: boots the application on H2, seeds it with synthetic data (one
+ * million reviews by default) and runs each configured scenario against the HTTP API in turn.
+ * For every scenario it reports throughput, latency percentiles, SQL statements per request and
+ * the same figures per operation, on stdout and in {@code target/load-test-report.txt}.
+ * Scenarios with {@code create-review-async} also report how long the asynchronous writer took to
+ * drain its queue after the run, since a {@code 202} only means the review was queued.
+ * <p>
+ * Run with {@code mvn test -Pload-test -Dtest=ReviewApiLoadTest}. Tunables (system properties):
+ * <ul>
+ *     <li>{@code loadtest.scenarios}: scenario mixes, see {@link LoadScenario} (default {@link LoadScenario#DEFAULTS})</li>
+ *     <li>{@code loadtest.concurrency}, {@code loadtest.warmup-seconds}, {@code loadtest.duration-seconds}</li>
+ *     <li>{@code loadtest.hotels}, {@code loadtest.rooms-per-hotel}, {@code loadtest.reviews-per-room},
+ *         {@code loadtest.spare-bookings-per-room}: data set size</li>
+ *     <li>{@code loadtest.pool-size}: Hikari pool size</li>
+ * </ul>
+ */
+@Tag("load")
+class ReviewApiLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 50);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 10);
+    private static final String SCENARIOS = System.getProperty("loadtest.scenarios", LoadScenario.DEFAULTS);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/load-test-report.txt"));
+
+    @Test
+    void runScenarios() throws Exception {
+        List<LoadScenario> scenarios = LoadScenario.parse(SCENARIOS);
+        Scale scale = Scale.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "spring.datasource.url=jdbc:h2:mem:review-api-load;DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "reviews.async-write.enabled=true")) {
+            long seedStarted = System.nanoTime();
+            Dataset dataset = LoadTestDataSeeder.seed(context.getBean(JdbcTemplate.class), scale);
+            Duration seedTime = Duration.ofNanos(System.nanoTime() - seedStarted);
+
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            String baseUrl = LoadTestApplication.baseUrl(context);
+            LoadGenerator generator = new LoadGenerator(CONCURRENCY,
+                    Duration.ofSeconds(WARMUP_SECONDS), Duration.ofSeconds(DURATION_SECONDS));
+
+            List<String> report = new ArrayList<>();
+            report.add(String.format("data: %s (seeded in %ds)", scale, seedTime.toSeconds()));
+            report.add(String.format("concurrency=%d pool-size=%d warmup=%ds duration=%ds",
+                    CONCURRENCY, POOL_SIZE, WARMUP_SECONDS, DURATION_SECONDS));
+
+            List<LoadResult> results = new ArrayList<>();
+            for (LoadScenario scenario : scenarios) {
+                LoadResult result = generator.run(scenario.name(), requests(baseUrl, scenario, dataset),
+                        statistics::getPrepareStatementCount);
+                results.add(result);
+                report.add("");
+                report.add(scenario.toString());
+                report.add(result.report());
+                if (scenario.weights().containsKey(Operation.CREATE_REVIEW_ASYNC)) {
+                    report.add(String.format("async write queue drained %d ms after the run",
+                            drainAsyncQueue(context).toMillis()));
+                }
+            }
+            if (dataset.spareBookingsLeft() == 0) {
+                report.add("");
+                report.add("Spare bookings ran out; later create-review requests failed as duplicates. "
+                        + "Raise loadtest.spare-bookings-per-room.");
+            }
+
+            report.forEach(System.out::println);
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            Files.write(REPORT, report);
+
+            for (LoadResult result : results) {
+                assertTrue(result.requests() > 0, result.name() + " completed no requests");
+                assertEquals(0, result.errors(), result.name() + " had failed requests");
+            }
+        }
+    }
+
+    private static Supplier<LoadRequest> requests(String baseUrl, LoadScenario scenario, Dataset dataset) {
+        int totalWeight = scenario.totalWeight();
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Operation operation = scenario.pick(random.nextInt(totalWeight));
+            long roomId = 1 + random.nextLong(dataset.roomCount());
+            HttpRequest.Builder request = switch (operation) {
+                case ROOM_REVIEWS -> get(baseUrl + "/api/reviews/room/" + roomId + "?page=0&size=20");
+                case ROOM_STATS -> get(baseUrl + "/api/reviews/stats/" + roomId);
+                case REVIEW_CONFIG -> get(baseUrl + "/api/config/reviews?hotelId=" + (1 + random.nextLong(dataset.hotelCount())));
+                case CREATE_REVIEW -> createReview(baseUrl, dataset, random);
+                case CREATE_REVIEW_ASYNC -> createReview(baseUrl, dataset, random)
+                        .uri(URI.create(baseUrl + "/api/reviews/async"));
+                case DUPLICATE_REVIEW -> duplicateReview(baseUrl, dataset, random);
+            };
+            return new LoadRequest(operation.label(), request
+                    .header("Authorization", LoadTestApplication.AUTHORIZATION)
+                    .timeout(Duration.ofSeconds(30))
+                    .build(),
+                    switch (operation) {
+                        case DUPLICATE_REVIEW -> 409;
+                        case CREATE_REVIEW_ASYNC -> 202;
+                        default -> 0;
+                    });
+        };
+    }
+
+    /**
+     * Waits until the asynchronous writer has taken every queued review.
+     *
+     * @return how long that took
+     */
+    private static Duration drainAsyncQueue(ConfigurableApplicationContext context) throws InterruptedException {
+        Gauge queueSize = context.getBean(MeterRegistry.class).get("reviews.async.queue.size").gauge();
+        long started = System.nanoTime();
+        while (queueSize.value() > 0) {
+            Thread.sleep(10);
+        }
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    /**
+     * Reviews the next unused spare booking. Once they run out, the first seeded booking is reused,
+     * which fails as a duplicate and shows up as an error.
+     */
+    private static HttpRequest.Builder createReview(String baseUrl, Dataset dataset, ThreadLocalRandom random) {
+        int spare = dataset.claimSpareBooking();
+        long bookingId = spare >= 0 ? dataset.spareBookingId(spare) : 1;
+        long roomId = spare >= 0 ? dataset.spareBookingRoomId(spare) : 1;
+        return postReview(baseUrl, roomId, bookingId, random);
+    }
+
+    /**
+     * Reviews an already reviewed booking, which the API must reject with 409.
+     */
+    private static HttpRequest.Builder duplicateReview(String baseUrl, Dataset dataset, ThreadLocalRandom random) {
+        long bookingId = dataset.reviewedBookingId(random);
+        return postReview(baseUrl, dataset.reviewedBookingRoomId(bookingId), bookingId, random);
+    }
+
+    private static HttpRequest.Builder postReview(String baseUrl, long roomId, long bookingId, ThreadLocalRandom random) {
+        String body = String.format("{\"roomId\":%d,\"bookingId\":%d,\"rating\":%d,"
+                        + "\"comment\":\"Load test review\",\"reviewerEmail\":\"%s\",\"reviewerName\":\"Guest %d\"}",
+                roomId, bookingId, 1 + random.nextInt(5), LoadTestDataSeeder.guestEmail(bookingId), bookingId);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/reviews"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+}
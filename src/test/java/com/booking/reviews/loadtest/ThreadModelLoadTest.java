@@ -0,0 +1,151 @@
+package com.booking.reviews.loadtest;
+
+import com.booking.reviews.entity.*;
+import com.booking.reviews.loadtest.LoadGenerator.LoadRequest;
+import com.booking.reviews.repository.*;
+import com.booking.reviews.service.ReviewStatsReconciliationJob;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the same read mix against the application once on platform request threads and once on
+ * virtual threads ({@code spring.threads.virtual.enabled}) and prints both results side by side.
+ * The comparison needs Java 21 and is skipped on older runtimes.
+ * <p>
+ * Run with {@code mvn test -Pjdk21,load-test -Dtest=ThreadModelLoadTest}. Tunables (system properties):
+ * {@code loadtest.concurrency}, {@code loadtest.warmup-seconds}, {@code loadtest.duration-seconds},
+ * {@code loadtest.tomcat-threads} and {@code loadtest.pool-size}.
+ */
+@Tag("load")
+class ThreadModelLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+    private static final int TOMCAT_THREADS = Integer.getInteger("loadtest.tomcat-threads", 200);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 10);
+
+    private static final int ROOMS = 20;
+    private static final int REVIEWS_PER_ROOM = 50;
+
+    @Test
+    void compareThreadModels() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21,
+                "Virtual threads need Java 21+, run with -Pjdk21 on a Java 21 JDK");
+
+        List<LoadResult> results = new ArrayList<>();
+        results.add(runWith(false));
+        results.add(runWith(true));
+
+        System.out.printf("%nconcurrency=%d tomcat-threads=%d pool-size=%d duration=%ds%n",
+                CONCURRENCY, TOMCAT_THREADS, POOL_SIZE, DURATION_SECONDS);
+        results.forEach(result -> System.out.println(result.report()));
+
+        for (LoadResult result : results) {
+            assertTrue(result.requests() > 0, result.name() + " completed no requests");
+            assertEquals(0, result.errors(), result.name() + " had failed requests");
+        }
+    }
+
+    private LoadResult runWith(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "server.tomcat.accept-count=" + CONCURRENCY,
+                "spring.datasource.url=jdbc:h2:mem:loadtest-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.jpa.properties.hibernate.generate_statistics=false")) {
+            List<Long> roomIds = seed(context);
+
+            LoadGenerator generator = new LoadGenerator(CONCURRENCY,
+                    Duration.ofSeconds(WARMUP_SECONDS), Duration.ofSeconds(DURATION_SECONDS));
+            return generator.run(virtualThreads ? "virtual threads" : "platform threads",
+                    readMix(LoadTestApplication.baseUrl(context), roomIds));
+        }
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context) {
+        HotelType hotelType = context.getBean(HotelTypeRepository.class).save(HotelType.builder()
+                .typeName("Load")
+                .reviewEnabled(true)
+                .build());
+        Hotel hotel = context.getBean(HotelRepository.class).save(Hotel.builder()
+                .hotelTypeId(hotelType.getHotelTypeId())
+                .hotelName("Load Hotel")
+                .build());
+
+        RoomRepository roomRepository = context.getBean(RoomRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        ReviewRepository reviewRepository = context.getBean(ReviewRepository.class);
+
+        List<Long> roomIds = new ArrayList<>(ROOMS);
+        for (int r = 0; r < ROOMS; r++) {
+            Room room = roomRepository.save(Room.builder()
+                    .hotelId(hotel.getHotelId())
+                    .roomNumber(String.valueOf(100 + r))
+                    .build());
+            roomIds.add(room.getRoomId());
+
+            List<Booking> bookings = new ArrayList<>(REVIEWS_PER_ROOM);
+            for (int b = 0; b < REVIEWS_PER_ROOM; b++) {
+                bookings.add(Booking.builder()
+                        .roomId(room.getRoomId())
+                        .guestName("Guest " + b)
+                        .guestEmail("guest" + b + "@example.com")
+                        .build());
+            }
+            List<Review> reviews = new ArrayList<>(REVIEWS_PER_ROOM);
+            for (Booking booking : bookingRepository.saveAll(bookings)) {
+                reviews.add(Review.builder()
+                        .roomId(room.getRoomId())
+                        .bookingId(booking.getBookingId())
+                        .rating((short) (1 + booking.getBookingId() % 5))
+                        .comment("Load test review")
+                        .build());
+            }
+            reviewRepository.saveAll(reviews);
+        }
+
+        context.getBean(ReviewStatsReconciliationJob.class).reconcile();
+        return roomIds;
+    }
+
+    /**
+     * Equal parts first review page, single-room stats and the multi-room stats endpoint.
+     */
+    private static Supplier<LoadRequest> readMix(String baseUrl, List<Long> roomIds) {
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Long roomId = roomIds.get(random.nextInt(roomIds.size()));
+            int operation = random.nextInt(3);
+            String path = switch (operation) {
+                case 0 -> "/api/reviews/room/" + roomId + "?size=20";
+                case 1 -> "/api/reviews/stats/" + roomId;
+                default -> "/api/reviews/stats?roomIds=" + roomId;
+            };
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", LoadTestApplication.AUTHORIZATION)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            return new LoadRequest(switch (operation) {
+                case 0 -> "room reviews";
+                case 1 -> "room stats";
+                default -> "multi-room stats";
+            }, request);
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.AsyncReviewStatusResponse;
+import com.booking.reviews.dto.BulkReviewItemResult;
+import com.booking.reviews.dto.BulkReviewResponse;
+import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.exception.FeatureDisabledException;
+import com.booking.reviews.exception.ServiceUnavailableException;
+import com.booking.reviews.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncReviewWriterTest {
+
+    @Mock
+    private ReviewService reviewService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncReviewWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Not started: tests drive the writer loop through drainOnce
+        writer = new AsyncReviewWriter(reviewService, 2, 10, Duration.ofMinutes(5), Duration.ofSeconds(3),
+                meterRegistry);
+    }
+
+    @Test
+    void submit_QueuesAndTracks() {
+        // Act
+        AsyncReviewStatusResponse response = writer.submit(request(1L));
+
+        // Assert
+        assertEquals(AsyncReviewStatusResponse.QUEUED, response.getStatus());
+        assertEquals(response, writer.getStatus(response.getTrackingId()).orElseThrow());
+        assertEquals(1.0, meterRegistry.get("reviews.async.queue.size").gauge().value());
+    }
+
+    @Test
+    void submit_QueueFull_RejectsWithRetryAfter() {
+        // Arrange
+        writer.submit(request(1L));
+        writer.submit(request(2L));
+
+        // Act & Assert
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> writer.submit(request(3L)));
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("reviews.async.rejected").counter().count());
+    }
+
+    @Test
+    void drainOnce_WritesQueuedReviewsInOneBatch() throws Exception {
+        // Arrange
+        AsyncReviewStatusResponse first = writer.submit(request(1L));
+        AsyncReviewStatusResponse second = writer.submit(request(2L));
+        when(reviewService.createReviews(anyList())).thenReturn(BulkReviewResponse.builder()
+                .results(List.of(
+                        BulkReviewItemResult.created(0, ReviewResponse.builder().reviewId(10L).build()),
+                        BulkReviewItemResult.failed(1, "DUPLICATE_REVIEW", "A review already exists for booking: 2")))
+                .build());
+
+        // Act
+        int processed = writer.drainOnce(0);
+
+        // Assert
+        assertEquals(2, processed);
+        verify(reviewService, times(1)).createReviews(anyList());
+        AsyncReviewStatusResponse created = writer.getStatus(first.getTrackingId()).orElseThrow();
+        assertEquals(AsyncReviewStatusResponse.CREATED, created.getStatus());
+        assertEquals(10L, created.getReview().getReviewId());
+        assertNotNull(created.getCompletedAt());
+        AsyncReviewStatusResponse failed = writer.getStatus(second.getTrackingId()).orElseThrow();
+        assertEquals(AsyncReviewStatusResponse.FAILED, failed.getStatus());
+        assertEquals("DUPLICATE_REVIEW", failed.getCode());
+    }
+
+    @Test
+    void drainOnce_FailedGroupCommit_RetriesIndividually() throws Exception {
+        // Arrange
+        AsyncReviewStatusResponse first = writer.submit(request(1L));
+        AsyncReviewStatusResponse second = writer.submit(request(2L));
+        when(reviewService.createReviews(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(BulkReviewResponse.builder()
+                        .results(List.of(BulkReviewItemResult.created(0, ReviewResponse.builder().reviewId(10L).build())))
+                        .build())
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act
+        writer.drainOnce(0);
+
+        // Assert
+        verify(reviewService, times(3)).createReviews(anyList());
+        assertEquals(AsyncReviewStatusResponse.CREATED, writer.getStatus(first.getTrackingId()).orElseThrow().getStatus());
+        assertEquals("INTERNAL_ERROR", writer.getStatus(second.getTrackingId()).orElseThrow().getCode());
+    }
+
+    @Test
+    void drainOnce_GloballyDisabled_FailsBatch() throws Exception {
+        // Arrange
+        AsyncReviewStatusResponse queued = writer.submit(request(1L));
+        when(reviewService.createReviews(anyList()))
+                .thenThrow(new FeatureDisabledException("Reviews are currently disabled globally"));
+
+        // Act
+        writer.drainOnce(0);
+
+        // Assert
+        AsyncReviewStatusResponse status = writer.getStatus(queued.getTrackingId()).orElseThrow();
+        assertEquals(AsyncReviewStatusResponse.FAILED, status.getStatus());
+        assertEquals("FEATURE_DISABLED", status.getCode());
+    }
+
+    @Test
+    void drainOnce_EmptyQueue() throws Exception {
+        // Act & Assert
+        assertEquals(0, writer.drainOnce(0));
+        verifyNoInteractions(reviewService);
+    }
+
+    @Test
+    void stop_FinishesCurrentBatchThenFlushesQueue() throws Exception {
+        // Arrange
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reviewService.createReviews(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            List<ReviewRequest> requests = invocation.getArgument(0);
+            return BulkReviewResponse.builder()
+                    .results(IntStream.range(0, requests.size())
+                            .mapToObj(i -> BulkReviewItemResult.created(i, ReviewResponse.builder().reviewId(10L + i).build()))
+                            .toList())
+                    .build();
+        });
+        writer.start();
+        AsyncReviewStatusResponse inFlight = writer.submit(request(1L));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        AsyncReviewStatusResponse queued = writer.submit(request(2L));
+
+        // Act
+        Thread stopper = new Thread(() -> {
+            try {
+                writer.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stopper.start();
+        stopper.join(200);
+        assertTrue(stopper.isAlive());
+        release.countDown();
+        stopper.join(TimeUnit.SECONDS.toMillis(5));
+
+        // Assert
+        assertFalse(stopper.isAlive());
+        verify(reviewService, times(2)).createReviews(anyList());
+        assertEquals(AsyncReviewStatusResponse.CREATED, writer.getStatus(inFlight.getTrackingId()).orElseThrow().getStatus());
+        assertEquals(AsyncReviewStatusResponse.CREATED, writer.getStatus(queued.getTrackingId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void submit_AfterStop_RejectsWithRetryAfter() throws Exception {
+        // Arrange
+        writer.start();
+        writer.stop();
+
+        // Act & Assert
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> writer.submit(request(1L)));
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(0.0, meterRegistry.get("reviews.async.queue.size").gauge().value());
+        assertEquals(1.0, meterRegistry.get("reviews.async.rejected").counter().count());
+        verifyNoInteractions(reviewService);
+    }
+
+    private static ReviewRequest request(Long bookingId) {
+        return ReviewRequest.builder()
+                .roomId(1L)
+                .bookingId(bookingId)
+                .rating((short) 5)
+                .reviewerEmail("guest@example.com")
+                .build();
+    }
+}
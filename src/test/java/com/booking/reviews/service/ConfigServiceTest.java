@@ -6,6 +6,7 @@ import com.booking.reviews.entity.HotelType;
 import com.booking.reviews.exception.ResourceNotFoundException;
 import com.booking.reviews.repository.HotelRepository;
 import com.booking.reviews.repository.HotelTypeRepository;
+import com.booking.reviews.repository.projection.HotelReviewSetting;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -115,4 +118,67 @@ class ConfigServiceTest {
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> configService.getReviewConfig(1L));
     }
+
+    @Test
+    void getReviewConfigs_MixedBatch() {
+        // Arrange
+        HotelReviewSetting enabledHotel = setting(1L, true);
+        HotelReviewSetting disabledHotel = setting(2L, false);
+        when(hotelRepository.findReviewSettingsByHotelIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(disabledHotel, enabledHotel));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        // Act
+        Map<Long, ConfigResponse> result = configService.getReviewConfigs(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(result.keySet()));
+        assertEquals("ENABLED", result.get(1L).getScope());
+        assertEquals("HOTEL_TYPE", result.get(2L).getScope());
+        assertEquals("NOT_FOUND", result.get(3L).getScope());
+        assertEquals("Hotel not found: 3", result.get(3L).getReason());
+        assertFalse(result.get(3L).getEnabled());
+        verify(featureToggleService, times(1)).isGlobalWriteReviewEnabled();
+        verifyNoInteractions(hotelTypeRepository);
+    }
+
+    @Test
+    void getReviewConfigs_HotelTypeNotFound() {
+        // Arrange
+        HotelReviewSetting orphanHotel = mock(HotelReviewSetting.class);
+        when(orphanHotel.getHotelId()).thenReturn(1L);
+        when(orphanHotel.getHotelTypeId()).thenReturn(7L);
+        when(orphanHotel.getReviewEnabled()).thenReturn(null);
+        when(hotelRepository.findReviewSettingsByHotelIds(List.of(1L))).thenReturn(List.of(orphanHotel));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        // Act
+        Map<Long, ConfigResponse> result = configService.getReviewConfigs(List.of(1L));
+
+        // Assert
+        assertEquals("NOT_FOUND", result.get(1L).getScope());
+        assertEquals("Hotel type not found: 7", result.get(1L).getReason());
+        assertFalse(result.get(1L).getEnabled());
+    }
+
+    @Test
+    void getReviewConfigs_GlobalDisabled() {
+        // Arrange
+        HotelReviewSetting enabledHotel = setting(1L, true);
+        when(hotelRepository.findReviewSettingsByHotelIds(List.of(1L))).thenReturn(List.of(enabledHotel));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(false);
+
+        // Act
+        Map<Long, ConfigResponse> result = configService.getReviewConfigs(List.of(1L));
+
+        // Assert
+        assertEquals("GLOBAL", result.get(1L).getScope());
+    }
+
+    private static HotelReviewSetting setting(Long hotelId, boolean reviewEnabled) {
+        HotelReviewSetting setting = mock(HotelReviewSetting.class);
+        when(setting.getHotelId()).thenReturn(hotelId);
+        when(setting.getReviewEnabled()).thenReturn(reviewEnabled);
+        return setting;
+    }
 }
@@ -5,13 +5,18 @@ import com.amazonaws.services.simplesystemsmanagement.model.GetParameterRequest;
 import com.amazonaws.services.simplesystemsmanagement.model.GetParameterResult;
 import com.amazonaws.services.simplesystemsmanagement.model.Parameter;
 import com.amazonaws.services.simplesystemsmanagement.model.ParameterNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,9 +28,6 @@ class FeatureToggleServiceTest {
     @Mock
     private AWSSimpleSystemsManagement ssmClient;
 
-    @InjectMocks
-    private FeatureToggleService featureToggleService;
-
     @BeforeEach
     void setUp() {
         // Use reflection or constructor injection - for now, we'll test with mocked client
@@ -46,7 +48,10 @@ class FeatureToggleServiceTest {
         FeatureToggleService service = new FeatureToggleService(
                 mockClient,
                 "/review-system/global/write-review-enabled",
-                false // localOverrideEnabled = false to test AWS behavior
+                false, // localOverrideEnabled = false to test AWS behavior
+                Duration.ofSeconds(30),
+                new SyncTaskExecutor(),
+                new SimpleMeterRegistry()
         );
 
         // Act
@@ -71,7 +76,10 @@ class FeatureToggleServiceTest {
         FeatureToggleService service = new FeatureToggleService(
                 mockClient,
                 "/review-system/global/write-review-enabled",
-                false // localOverrideEnabled = false to test AWS behavior
+                false, // localOverrideEnabled = false to test AWS behavior
+                Duration.ofSeconds(30),
+                new SyncTaskExecutor(),
+                new SimpleMeterRegistry()
         );
 
         // Act
@@ -91,7 +99,10 @@ class FeatureToggleServiceTest {
         FeatureToggleService service = new FeatureToggleService(
                 mockClient,
                 "/review-system/global/write-review-enabled",
-                false // localOverrideEnabled = false to test AWS behavior
+                false, // localOverrideEnabled = false to test AWS behavior
+                Duration.ofSeconds(30),
+                new SyncTaskExecutor(),
+                new SimpleMeterRegistry()
         );
 
         // Act
@@ -111,7 +122,10 @@ class FeatureToggleServiceTest {
         FeatureToggleService service = new FeatureToggleService(
                 mockClient,
                 "/review-system/global/write-review-enabled",
-                false // localOverrideEnabled = false to test AWS behavior
+                false, // localOverrideEnabled = false to test AWS behavior
+                Duration.ofSeconds(30),
+                new SyncTaskExecutor(),
+                new SimpleMeterRegistry()
         );
 
         // Act
@@ -129,7 +143,10 @@ class FeatureToggleServiceTest {
         FeatureToggleService service = new FeatureToggleService(
                 mockClient,
                 "/review-system/global/write-review-enabled",
-                true // localOverrideEnabled = true
+                true, // localOverrideEnabled = true
+                Duration.ofSeconds(30),
+                new SyncTaskExecutor(),
+                new SimpleMeterRegistry()
         );
 
         // Act
@@ -139,5 +156,98 @@ class FeatureToggleServiceTest {
         assertTrue(enabled); // Should return true when local override is enabled
         verify(mockClient, never()).getParameter(any(GetParameterRequest.class)); // Should not call AWS
     }
-}
 
+    @Test
+    void isGlobalWriteReviewEnabled_ServedFromCacheWithinTtl() {
+        // Arrange
+        AWSSimpleSystemsManagement mockClient = mock(AWSSimpleSystemsManagement.class);
+        when(mockClient.getParameter(any(GetParameterRequest.class))).thenReturn(parameterResult("true"));
+
+        FeatureToggleService service = newService(mockClient, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        // Act
+        service.warmUp();
+        boolean first = service.isGlobalWriteReviewEnabled();
+        boolean second = service.isGlobalWriteReviewEnabled();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        verify(mockClient, times(1)).getParameter(any(GetParameterRequest.class));
+    }
+
+    @Test
+    void isGlobalWriteReviewEnabled_StaleValueServedWhileRevalidating() {
+        // Arrange
+        AWSSimpleSystemsManagement mockClient = mock(AWSSimpleSystemsManagement.class);
+        when(mockClient.getParameter(any(GetParameterRequest.class)))
+                .thenReturn(parameterResult("true"))
+                .thenReturn(parameterResult("false"));
+
+        List<Runnable> queued = new ArrayList<>();
+        FeatureToggleService service = new FeatureToggleService(
+                mockClient,
+                "/review-system/global/write-review-enabled",
+                false,
+                Duration.ZERO,
+                queued::add,
+                new SimpleMeterRegistry()
+        );
+        service.warmUp();
+
+        // Act
+        boolean stale = service.isGlobalWriteReviewEnabled();
+        service.isGlobalWriteReviewEnabled(); // refresh already in flight, not queued twice
+        int queuedRefreshes = queued.size();
+        queued.remove(0).run();
+        boolean revalidated = service.isGlobalWriteReviewEnabled();
+
+        // Assert
+        assertTrue(stale);
+        assertFalse(revalidated);
+        assertEquals(1, queuedRefreshes);
+    }
+
+    @Test
+    void scheduledRefresh_KeepsLastKnownGoodOnError() {
+        // Arrange
+        AWSSimpleSystemsManagement mockClient = mock(AWSSimpleSystemsManagement.class);
+        when(mockClient.getParameter(any(GetParameterRequest.class)))
+                .thenReturn(parameterResult("true"))
+                .thenThrow(new RuntimeException("AWS error"));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FeatureToggleService service = newService(mockClient, Duration.ofMinutes(5), meterRegistry);
+        service.warmUp();
+
+        // Act
+        service.scheduledRefresh();
+        boolean enabled = service.isGlobalWriteReviewEnabled();
+
+        // Assert
+        assertTrue(enabled);
+        assertEquals(1, meterRegistry.get("feature.toggle.refresh").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("feature.toggle.refresh").tag("outcome", "error").timer().count());
+        assertTrue(meterRegistry.get("feature.toggle.staleness").gauge().value() >= 0);
+    }
+
+    private static FeatureToggleService newService(AWSSimpleSystemsManagement client, Duration ttl,
+                                                   SimpleMeterRegistry meterRegistry) {
+        return new FeatureToggleService(
+                client,
+                "/review-system/global/write-review-enabled",
+                false,
+                ttl,
+                new SyncTaskExecutor(),
+                meterRegistry
+        );
+    }
+
+    private static GetParameterResult parameterResult(String value) {
+        GetParameterResult result = new GetParameterResult();
+        Parameter parameter = new Parameter();
+        parameter.setValue(value);
+        result.setParameter(parameter);
+        return result;
+    }
+}
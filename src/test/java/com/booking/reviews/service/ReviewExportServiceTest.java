@@ -0,0 +1,118 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 12, 25, 17, 20);
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private ReviewExportService reviewExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        reviewExportService = new ReviewExportService(reviewRepository, objectMapper);
+    }
+
+    @Test
+    void export_Ndjson_OneObjectPerLineAndClosesCursor() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(reviewRepository.streamResponses(eq(1L), any(), any(), any())).thenReturn(
+                Stream.of(review(1L, "Great stay!"), review(2L, null)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = reviewExportService.export(1L, null, null, null, ReviewExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"reviewId\":1,"));
+        assertTrue(lines[1].contains("\"reviewId\":2"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void export_Csv_EscapesFields() throws Exception {
+        // Arrange
+        when(reviewRepository.streamResponses(any(), any(), any(), any()))
+                .thenReturn(Stream.of(review(1L, "Clean, quiet \"AC\" room")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        reviewExportService.export(null, null, null, null, ReviewExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("reviewId,roomId,bookingId,rating,comment,reviewerEmail,reviewerName,createdAt", lines[0]);
+        assertEquals("1,1,1,5,\"Clean, quiet \"\"AC\"\" room\",guest@example.com,John Doe,2025-12-25T17:20",
+                lines[1]);
+    }
+
+    @Test
+    void export_Empty() throws Exception {
+        // Arrange
+        when(reviewRepository.streamResponses(any(), any(), any(), any())).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = reviewExportService.export(null, 1L, null, null, ReviewExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(0, rows);
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_OpenEndedRangeIsBounded() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 12, 1, 0, 0);
+        when(reviewRepository.streamResponses(any(), eq(1L), eq(from), eq(ReviewExportService.LATEST)))
+                .thenReturn(Stream.of(review(1L, null)));
+
+        // Act
+        long rows = reviewExportService.export(null, 1L, from, null, ReviewExportFormat.NDJSON,
+                new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(1, rows);
+    }
+
+    private static ReviewResponse review(Long reviewId, String comment) {
+        return ReviewResponse.builder()
+                .reviewId(reviewId)
+                .roomId(1L)
+                .bookingId(reviewId)
+                .rating((short) 5)
+                .comment(comment)
+                .reviewerEmail("guest@example.com")
+                .reviewerName("John Doe")
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
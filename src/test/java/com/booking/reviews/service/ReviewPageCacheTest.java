@@ -0,0 +1,178 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.ReviewResponse;
+import com.booking.reviews.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewPageCacheTest {
+
+    private static final LocalDateTime REVIEWED_AT = LocalDateTime.of(2025, 12, 25, 17, 20);
+
+    @Mock
+    private ReviewService reviewService;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private ReviewPageCache pageCache;
+
+    @BeforeEach
+    void setUp() {
+        pageCache = new ReviewPageCache(reviewService, objectMapper, true, 3, 50, 1024 * 1024,
+                Duration.ofMinutes(5), 1024, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getReviewsByRoomId_ServesRepeatedReadsFromCache() throws IOException {
+        // Arrange
+        when(reviewService.getReviewsByRoomId(1L, 0, 10, null)).thenReturn(page(1L, 2));
+
+        // Act
+        CachedReviewPage first = pageCache.getReviewsByRoomId(1L, 0, 10, null);
+        CachedReviewPage second = pageCache.getReviewsByRoomId(1L, 0, 10, "createdAt,desc");
+
+        // Assert
+        assertSame(first, second);
+        verify(reviewService, times(1)).getReviewsByRoomId(anyLong(), anyInt(), anyInt(), any());
+        JsonNode json = objectMapper.readTree(first.json());
+        assertEquals(2, json.get("content").size());
+        assertEquals("2025-12-25T17:20:00", json.get("content").get(0).get("createdAt").asText());
+    }
+
+    @Test
+    void onReviewsCreated_InvalidatesOnlyThatRoom() {
+        // Arrange
+        when(reviewService.getReviewsByRoomId(1L, 0, 10, null)).thenReturn(page(1L, 1)).thenReturn(page(1L, 2));
+        when(reviewService.getReviewsByRoomId(2L, 0, 10, null)).thenReturn(page(2L, 1));
+        pageCache.getReviewsByRoomId(1L, 0, 10, null);
+        pageCache.getReviewsByRoomId(2L, 0, 10, null);
+
+        // Act
+        pageCache.onReviewsCreated(new ReviewsCreatedEvent(List.of(new ReviewsCreatedEvent.RoomDelta(
+                1L, 1L, 1L, new RatingTally().add((short) 5, REVIEWED_AT)))));
+        CachedReviewPage room1 = pageCache.getReviewsByRoomId(1L, 0, 10, null);
+        pageCache.getReviewsByRoomId(2L, 0, 10, null);
+
+        // Assert
+        verify(reviewService, times(2)).getReviewsByRoomId(1L, 0, 10, null);
+        verify(reviewService, times(1)).getReviewsByRoomId(2L, 0, 10, null);
+        assertTrue(new String(room1.json()).contains("\"totalElements\":2"));
+    }
+
+    @Test
+    void getReviewsByRoomId_PageReadBeforeCommitIsNotServedAfterIt() {
+        // Arrange: a review for the room commits while its page is being read
+        when(reviewService.getReviewsByRoomId(1L, 0, 10, null)).thenAnswer(invocation -> {
+            pageCache.onReviewsCreated(new ReviewsCreatedEvent(List.of(new ReviewsCreatedEvent.RoomDelta(
+                    1L, 1L, 1L, new RatingTally().add((short) 4, REVIEWED_AT)))));
+            return page(1L, 1);
+        }).thenReturn(page(1L, 2));
+
+        // Act
+        pageCache.getReviewsByRoomId(1L, 0, 10, null);
+        CachedReviewPage after = pageCache.getReviewsByRoomId(1L, 0, 10, null);
+
+        // Assert
+        verify(reviewService, times(2)).getReviewsByRoomId(1L, 0, 10, null);
+        assertTrue(new String(after.json()).contains("\"totalElements\":2"));
+    }
+
+    @Test
+    void getReviewsByRoomId_GzipsLargePages() throws IOException {
+        // Arrange
+        when(reviewService.getReviewsByRoomId(1L, 0, 50, null)).thenReturn(page(1L, 50));
+
+        // Act
+        CachedReviewPage cached = pageCache.getReviewsByRoomId(1L, 0, 50, null);
+
+        // Assert
+        assertTrue(cached.hasGzip());
+        assertTrue(cached.gzip().length < cached.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzip()))) {
+            assertArrayEquals(cached.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void getReviewsByRoomId_DoesNotCacheFailures() {
+        // Arrange
+        when(reviewService.getReviewsByRoomId(999L, 0, 10, null))
+                .thenThrow(new ResourceNotFoundException("Room not found: 999"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> pageCache.getReviewsByRoomId(999L, 0, 10, null));
+        assertThrows(ResourceNotFoundException.class, () -> pageCache.getReviewsByRoomId(999L, 0, 10, null));
+        verify(reviewService, times(2)).getReviewsByRoomId(999L, 0, 10, null);
+        assertEquals(0, pageCache.trackedRooms());
+    }
+
+    @Test
+    void generations_TrackedOnlyForWrittenRooms() {
+        // Arrange
+        when(reviewService.getReviewsByRoomId(anyLong(), eq(0), eq(10), isNull()))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), 1));
+
+        // Act
+        for (long roomId = 1; roomId <= 100; roomId++) {
+            pageCache.getReviewsByRoomId(roomId, 0, 10, null);
+        }
+        pageCache.onReviewsCreated(new ReviewsCreatedEvent(List.of(new ReviewsCreatedEvent.RoomDelta(
+                7L, 1L, 1L, new RatingTally().add((short) 5, REVIEWED_AT)))));
+
+        // Assert
+        assertEquals(1, pageCache.trackedRooms());
+    }
+
+    @Test
+    void isCacheable_OnlyFirstPagesUpToMaxSize() {
+        assertTrue(pageCache.isCacheable(0, 10));
+        assertTrue(pageCache.isCacheable(2, 50));
+        assertFalse(pageCache.isCacheable(3, 10));
+        assertFalse(pageCache.isCacheable(0, 51));
+
+        ReviewPageCache disabled = new ReviewPageCache(reviewService, objectMapper, false, 3, 50, 1024 * 1024,
+                Duration.ofMinutes(5), 1024, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        assertFalse(disabled.isCacheable(0, 10));
+    }
+
+    private static PageImpl<ReviewResponse> page(Long roomId, int count) {
+        List<ReviewResponse> reviews = IntStream.range(0, count)
+                .mapToObj(i -> ReviewResponse.builder()
+                        .reviewId((long) i + 1)
+                        .roomId(roomId)
+                        .bookingId((long) i + 1)
+                        .rating((short) (i % 5 + 1))
+                        .comment("Comfortable room, friendly staff and a quiet street")
+                        .reviewerEmail("guest" + i + "@example.com")
+                        .reviewerName("Guest " + i)
+                        .createdAt(REVIEWED_AT)
+                        .build())
+                .toList();
+        return new PageImpl<>(reviews, PageRequest.of(0, Math.max(count, 1)), count);
+    }
+}
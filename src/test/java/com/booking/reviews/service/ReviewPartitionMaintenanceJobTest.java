@@ -0,0 +1,123 @@
+package com.booking.reviews.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewPartitionMaintenanceJobTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 11);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void maintain_CreatesMissingFuturePartitions() {
+        // Arrange
+        givenPartitions("reviews_p202610", "reviews_p202611", "reviews_p202612", "reviews_default");
+        ReviewPartitionMaintenanceJob job = new ReviewPartitionMaintenanceJob(jdbcTemplate, 3, 0);
+
+        // Act
+        int changed = job.maintain(CURRENT);
+
+        // Assert
+        assertEquals(2, changed);
+        assertEquals(List.of(
+                "CREATE TABLE IF NOT EXISTS reviews_p202701 PARTITION OF reviews FOR VALUES FROM ('2027-01-01') TO ('2027-02-01')",
+                "CREATE TABLE IF NOT EXISTS reviews_p202702 PARTITION OF reviews FOR VALUES FROM ('2027-02-01') TO ('2027-03-01')"),
+                executedStatements());
+    }
+
+    @Test
+    void maintain_DetachesPartitionsBeforeRetention() {
+        // Arrange
+        givenPartitions("reviews_p202607", "reviews_p202608", "reviews_p202609", "reviews_p202610", "reviews_p202611");
+        ReviewPartitionMaintenanceJob job = new ReviewPartitionMaintenanceJob(jdbcTemplate, 0, 2);
+
+        // Act
+        int changed = job.maintain(CURRENT);
+
+        // Assert
+        assertEquals(2, changed);
+        assertEquals(List.of(
+                "ALTER TABLE reviews DETACH PARTITION reviews_p202607",
+                "ALTER TABLE reviews DETACH PARTITION reviews_p202608"),
+                executedStatements());
+    }
+
+    @Test
+    void maintain_ZeroRetentionKeepsEverything() {
+        // Arrange
+        givenPartitions("reviews_p201901", "reviews_p202611");
+        ReviewPartitionMaintenanceJob job = new ReviewPartitionMaintenanceJob(jdbcTemplate, 0, 0);
+
+        // Act
+        int changed = job.maintain(CURRENT);
+
+        // Assert
+        assertEquals(0, changed);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void maintain_FailedPartitionDoesNotStopTheRest() {
+        // Arrange
+        givenPartitions("reviews_p202611");
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .when(jdbcTemplate).execute(contains("reviews_p202612"));
+        ReviewPartitionMaintenanceJob job = new ReviewPartitionMaintenanceJob(jdbcTemplate, 2, 0);
+
+        // Act
+        int changed = job.maintain(CURRENT);
+
+        // Assert
+        assertEquals(1, changed);
+        verify(jdbcTemplate).execute(contains("reviews_p202701"));
+    }
+
+    @Test
+    void maintain_SkipsUnpartitionedTable() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+        ReviewPartitionMaintenanceJob job = new ReviewPartitionMaintenanceJob(jdbcTemplate, 3, 12);
+
+        // Act
+        int changed = job.maintain(CURRENT);
+
+        // Assert
+        assertEquals(0, changed);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void monthOf_IgnoresOtherTables() {
+        assertEquals(Optional.of(YearMonth.of(2026, 1)), ReviewPartitionMaintenanceJob.monthOf("reviews_p202601"));
+        assertEquals(Optional.empty(), ReviewPartitionMaintenanceJob.monthOf("reviews_default"));
+        assertEquals(Optional.empty(), ReviewPartitionMaintenanceJob.monthOf("reviews_p2026"));
+    }
+
+    private void givenPartitions(String... names) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(names));
+    }
+
+    private List<String> executedStatements() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(sql.capture());
+        return sql.getAllValues();
+    }
+}
@@ -1,30 +1,45 @@
 package com.booking.reviews.service;
 
 import com.booking.reviews.dto.ReviewRequest;
+import com.booking.reviews.dto.ReviewResponse;
 import com.booking.reviews.entity.*;
 import com.booking.reviews.exception.DuplicateReviewException;
 import com.booking.reviews.exception.FeatureDisabledException;
 import com.booking.reviews.exception.ResourceNotFoundException;
 import com.booking.reviews.repository.*;
+import com.booking.reviews.repository.projection.RatingSummary;
+import com.booking.reviews.repository.projection.ReviewTarget;
+import com.booking.reviews.repository.projection.RoomRatingCount;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,10 +60,24 @@ class ReviewServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Mock
+    private HotelReviewStatsRepository hotelReviewStatsRepository;
+
+    @Mock
+    private RatingTrendService ratingTrendService;
+
     @Mock
     private FeatureToggleService featureToggleService;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ReviewService reviewService;
 
     private Room testRoom;
@@ -59,6 +88,10 @@ class ReviewServiceTest {
 
     @BeforeEach
     void setUp() {
+        reviewService = new ReviewService(reviewRepository, roomRepository, hotelRepository, hotelTypeRepository,
+                bookingRepository, roomReviewStatsRepository, hotelReviewStatsRepository, ratingTrendService, featureToggleService,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, transactionManager);
+
         testHotelType = HotelType.builder()
                 .hotelTypeId(1L)
                 .typeName("Luxury")
@@ -97,11 +130,7 @@ class ReviewServiceTest {
     @Test
     void createReview_Success() {
         // Arrange
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(testBooking));
-        when(reviewRepository.existsByBookingId(1L)).thenReturn(false);
-        when(hotelRepository.findByHotelId(1L)).thenReturn(Optional.of(testHotel));
-        when(hotelTypeRepository.findByHotelTypeId(1L)).thenReturn(Optional.of(testHotelType));
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
         when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
 
         Review savedReview = Review.builder()
@@ -113,7 +142,11 @@ class ReviewServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(reviewRepository.save(any(Review.class))).thenReturn(savedReview);
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(savedReview);
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(hotelReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
 
         // Act
         var result = reviewService.createReview(testReviewRequest);
@@ -122,28 +155,106 @@ class ReviewServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getReviewId());
         assertEquals((short) 5, result.getRating());
-        verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(reviewRepository, times(1)).saveAndFlush(any(Review.class));
+        verify(roomReviewStatsRepository).incrementCounts(eq(1L), eq(1L), eq(5L),
+                eq(0L), eq(0L), eq(0L), eq(0L), eq(1L), eq(savedReview.getCreatedAt()));
+
+        verify(roomReviewStatsRepository, never()).insertIfAbsent(any());
+        verify(hotelReviewStatsRepository, never()).insertIfAbsent(any());
+
+        verify(ratingTrendService).recordReviews(List.of(savedReview), Map.of(1L, 1L));
+
+        ArgumentCaptor<ReviewsCreatedEvent> event = ArgumentCaptor.forClass(ReviewsCreatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        ReviewsCreatedEvent.RoomDelta room = event.getValue().rooms().get(0);
+        assertEquals(1L, room.roomId());
+        assertEquals(1L, room.hotelId());
+        assertEquals(1L, room.hotelTypeId());
+        assertEquals(1L, room.tally().total());
+        assertEquals(5L, room.tally().ratingSum());
+    }
+
+    @Test
+    void createReview_SeedsStatsRowForFirstReview() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(Review.builder()
+                .reviewId(1L)
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 5)
+                .createdAt(createdAt)
+                .build());
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0);
+        when(reviewRepository.findRatingCountsByRoomId(1L))
+                .thenReturn(List.of(ratingCount((short) 5, 1L, createdAt)));
+        when(roomReviewStatsRepository.insertIfAbsent(any())).thenReturn(true);
+
+        // Act
+        reviewService.createReview(testReviewRequest);
+
+        // Assert
+        ArgumentCaptor<RoomReviewStats> captor = ArgumentCaptor.forClass(RoomReviewStats.class);
+        verify(roomReviewStatsRepository).insertIfAbsent(captor.capture());
+        assertEquals(1L, captor.getValue().getTotalReviews());
+        assertEquals(5L, captor.getValue().getRatingSum());
+        assertEquals(1L, captor.getValue().getRating5Count());
+        assertEquals(createdAt, captor.getValue().getLastReviewAt());
+        verify(roomReviewStatsRepository, times(1)).incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void createReview_StatsRowSeededConcurrently_AddsToTheOtherRow() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(Review.builder()
+                .reviewId(1L)
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 5)
+                .createdAt(createdAt)
+                .build());
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0, 1);
+        when(reviewRepository.findRatingCountsByRoomId(1L))
+                .thenReturn(List.of(ratingCount((short) 5, 1L, createdAt)));
+        when(roomReviewStatsRepository.insertIfAbsent(any())).thenReturn(false);
+
+        // Act
+        reviewService.createReview(testReviewRequest);
+
+        // Assert
+        verify(roomReviewStatsRepository, times(2)).incrementCounts(1L, 1L, 5L, 0L, 0L, 0L, 0L, 1L, createdAt);
     }
 
     @Test
     void createReview_RoomNotFound() {
         // Arrange
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.empty());
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reviewService.createReview(testReviewRequest));
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void createReview_BookingNotFound() {
         // Arrange
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.empty());
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(null, testHotel, testHotelType)));
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> reviewService.createReview(testReviewRequest));
-        verify(reviewRepository, never()).save(any());
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> reviewService.createReview(testReviewRequest));
+        assertEquals("Booking not found: 1", exception.getMessage());
+        verify(reviewRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -155,12 +266,12 @@ class ReviewServiceTest {
                 .guestEmail("guest@example.com")
                 .build();
 
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(wrongRoomBooking));
+        when(roomRepository.findReviewTarget(1L, 1L))
+                .thenReturn(Optional.of(target(wrongRoomBooking, testHotel, testHotelType)));
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reviewService.createReview(testReviewRequest));
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -173,38 +284,49 @@ class ReviewServiceTest {
                 .reviewerEmail("wrong@example.com") // Different email
                 .build();
 
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(testBooking));
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reviewService.createReview(wrongEmailRequest));
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void createReview_DuplicateReview() {
         // Arrange
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(testBooking));
-        when(reviewRepository.existsByBookingId(1L)).thenReturn(true);
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("duplicate key value", "23505")));
+
+        // Act & Assert
+        DuplicateReviewException exception = assertThrows(DuplicateReviewException.class,
+                () -> reviewService.createReview(testReviewRequest));
+        assertEquals("A review already exists for booking: 1", exception.getMessage());
+        verifyNoInteractions(roomReviewStatsRepository, ratingTrendService, eventPublisher);
+    }
+
+    @Test
+    void createReview_OtherIntegrityViolationIsNotADuplicate() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("value too long", "22001")));
 
         // Act & Assert
-        assertThrows(DuplicateReviewException.class, () -> reviewService.createReview(testReviewRequest));
-        verify(reviewRepository, never()).save(any());
+        assertThrows(DataIntegrityViolationException.class, () -> reviewService.createReview(testReviewRequest));
     }
 
     @Test
     void createReview_GlobalFeatureDisabled() {
         // Arrange
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(testBooking));
-        when(reviewRepository.existsByBookingId(1L)).thenReturn(false);
-        when(hotelRepository.findByHotelId(1L)).thenReturn(Optional.of(testHotel));
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
         when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(false);
 
         // Act & Assert
         assertThrows(FeatureDisabledException.class, () -> reviewService.createReview(testReviewRequest));
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -216,16 +338,38 @@ class ReviewServiceTest {
                 .reviewEnabled(false)
                 .build();
 
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(testBooking));
-        when(reviewRepository.existsByBookingId(1L)).thenReturn(false);
-        when(hotelRepository.findByHotelId(1L)).thenReturn(Optional.of(testHotel));
-        when(hotelTypeRepository.findByHotelTypeId(1L)).thenReturn(Optional.of(disabledHotelType));
+        when(roomRepository.findReviewTarget(1L, 1L))
+                .thenReturn(Optional.of(target(testBooking, testHotel, disabledHotelType)));
         when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
 
         // Act & Assert
         assertThrows(FeatureDisabledException.class, () -> reviewService.createReview(testReviewRequest));
-        verify(reviewRepository, never()).save(any());
+        verify(reviewRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void createReview_HotelNotFound() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, null, null)));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> reviewService.createReview(testReviewRequest));
+        assertEquals("Hotel not found: 1", exception.getMessage());
+        verify(reviewRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void createReview_HotelTypeNotFound() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, null)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> reviewService.createReview(testReviewRequest));
+        assertEquals("Hotel type not found: 1", exception.getMessage());
+        verify(reviewRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -233,29 +377,30 @@ class ReviewServiceTest {
         // Arrange
         when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
 
-        Review review1 = Review.builder()
+        ReviewResponse review1 = ReviewResponse.builder()
                 .reviewId(1L)
                 .roomId(1L)
                 .bookingId(1L)
                 .rating((short) 5)
+                .reviewerEmail("guest@example.com")
+                .reviewerName("John Doe")
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Review review2 = Review.builder()
+        ReviewResponse review2 = ReviewResponse.builder()
                 .reviewId(2L)
                 .roomId(1L)
                 .bookingId(2L)
                 .rating((short) 4)
+                .reviewerEmail("other@example.com")
                 .createdAt(LocalDateTime.now().minusDays(1))
                 .build();
 
-        List<Review> reviews = Arrays.asList(review1, review2);
+        List<ReviewResponse> reviews = Arrays.asList(review1, review2);
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviewPage = new PageImpl<>(reviews, pageable, 2);
+        Page<ReviewResponse> reviewPage = new PageImpl<>(reviews, pageable, 2);
 
-        when(reviewRepository.findByRoomId(1L, pageable)).thenReturn(reviewPage);
-        when(bookingRepository.findByBookingId(1L)).thenReturn(Optional.of(testBooking));
-        when(bookingRepository.findByBookingId(2L)).thenReturn(Optional.of(testBooking));
+        when(reviewRepository.findResponsesByRoomId(1L, pageable)).thenReturn(reviewPage);
 
         // Act
         var result = reviewService.getReviewsByRoomId(1L, 0, 10, null);
@@ -263,7 +408,9 @@ class ReviewServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
-        verify(reviewRepository, times(1)).findByRoomId(1L, pageable);
+        assertEquals("guest@example.com", result.getContent().get(0).getReviewerEmail());
+        verify(reviewRepository, times(1)).findResponsesByRoomId(1L, pageable);
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -278,14 +425,17 @@ class ReviewServiceTest {
     @Test
     void getReviewStats_Success() {
         // Arrange
-        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
-        when(reviewRepository.countByRoomId(1L)).thenReturn(10L);
-        when(reviewRepository.findAverageRatingByRoomId(1L)).thenReturn(4.5);
-        when(reviewRepository.countByRoomIdAndRating(1L, (short) 1)).thenReturn(0L);
-        when(reviewRepository.countByRoomIdAndRating(1L, (short) 2)).thenReturn(1L);
-        when(reviewRepository.countByRoomIdAndRating(1L, (short) 3)).thenReturn(2L);
-        when(reviewRepository.countByRoomIdAndRating(1L, (short) 4)).thenReturn(3L);
-        when(reviewRepository.countByRoomIdAndRating(1L, (short) 5)).thenReturn(4L);
+        RoomReviewStats stats = RoomReviewStats.builder()
+                .roomId(1L)
+                .totalReviews(10L)
+                .ratingSum(40L)
+                .rating1Count(0L)
+                .rating2Count(1L)
+                .rating3Count(2L)
+                .rating4Count(3L)
+                .rating5Count(4L)
+                .build();
+        when(roomReviewStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
 
         // Act
         var result = reviewService.getReviewStats(1L);
@@ -294,8 +444,43 @@ class ReviewServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getRoomId());
         assertEquals(10L, result.getTotalReviews());
-        assertEquals(4.5, result.getAverageRating());
+        assertEquals(4.0, result.getAverageRating());
         assertEquals(5, result.getRatingDistribution().size());
+        assertEquals(3L, result.getRatingDistribution().get((short) 4));
+        verifyNoInteractions(roomRepository, reviewRepository);
+    }
+
+    @Test
+    void getReviewStats_NoAggregateRow_FallsBackToReviews() {
+        // Arrange
+        when(roomReviewStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
+        when(reviewRepository.findRatingCountsByRoomId(1L)).thenReturn(List.of(
+                ratingCount((short) 4, 1L, LocalDateTime.now()),
+                ratingCount((short) 5, 1L, LocalDateTime.now())));
+
+        // Act
+        var result = reviewService.getReviewStats(1L);
+
+        // Assert
+        assertEquals(2L, result.getTotalReviews());
+        assertEquals(4.5, result.getAverageRating());
+        assertEquals(0L, result.getRatingDistribution().get((short) 1));
+    }
+
+    @Test
+    void getReviewStats_NoReviews() {
+        // Arrange
+        when(roomReviewStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(roomRepository.findByRoomId(1L)).thenReturn(Optional.of(testRoom));
+        when(reviewRepository.findRatingCountsByRoomId(1L)).thenReturn(List.of());
+
+        // Act
+        var result = reviewService.getReviewStats(1L);
+
+        // Assert
+        assertEquals(0L, result.getTotalReviews());
+        assertNull(result.getAverageRating());
     }
 
     @Test
@@ -306,4 +491,345 @@ class ReviewServiceTest {
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reviewService.getReviewStats(1L));
     }
+
+    @Test
+    void createReview_IncrementsHotelRollup() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(Review.builder()
+                .reviewId(1L)
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 4)
+                .createdAt(createdAt)
+                .build());
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(hotelReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // Act
+        reviewService.createReview(testReviewRequest);
+
+        // Assert
+        verify(hotelReviewStatsRepository).incrementCounts(1L, 1L, 4L, 0L, 0L, 0L, 1L, 0L, createdAt);
+        verify(hotelReviewStatsRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void createReview_SeedsHotelRollupForFirstReviewInHotel() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(Review.builder()
+                .reviewId(1L)
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 4)
+                .createdAt(createdAt)
+                .build());
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(reviewRepository.findRatingCountsByHotelId(1L))
+                .thenReturn(List.of(ratingCount((short) 4, 1L, createdAt)));
+        when(hotelReviewStatsRepository.insertIfAbsent(any())).thenReturn(true);
+
+        // Act
+        reviewService.createReview(testReviewRequest);
+
+        // Assert
+        ArgumentCaptor<HotelReviewStats> captor = ArgumentCaptor.forClass(HotelReviewStats.class);
+        verify(hotelReviewStatsRepository).insertIfAbsent(captor.capture());
+        assertEquals(1L, captor.getValue().getHotelId());
+        assertEquals(1L, captor.getValue().getHotelTypeId());
+        assertEquals(1L, captor.getValue().getRating4Count());
+        verify(hotelReviewStatsRepository, times(1)).incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void createReview_HotelRollupSeededConcurrently_AddsToTheOtherRow() {
+        // Arrange
+        when(roomRepository.findReviewTarget(1L, 1L)).thenReturn(Optional.of(target(testBooking, testHotel, testHotelType)));
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(Review.builder()
+                .reviewId(1L)
+                .roomId(1L)
+                .bookingId(1L)
+                .rating((short) 4)
+                .createdAt(createdAt)
+                .build());
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(hotelReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0, 1);
+        when(reviewRepository.findRatingCountsByHotelId(1L))
+                .thenReturn(List.of(ratingCount((short) 4, 1L, createdAt)));
+        when(hotelReviewStatsRepository.insertIfAbsent(any())).thenReturn(false);
+
+        // Act
+        reviewService.createReview(testReviewRequest);
+
+        // Assert
+        verify(hotelReviewStatsRepository, times(2)).incrementCounts(1L, 1L, 4L, 0L, 0L, 0L, 1L, 0L, createdAt);
+    }
+
+    @Test
+    void getHotelReviewStats_FromRollup() {
+        // Arrange
+        when(hotelReviewStatsRepository.findById(1L)).thenReturn(Optional.of(HotelReviewStats.builder()
+                .hotelId(1L)
+                .hotelTypeId(1L)
+                .totalReviews(3L)
+                .ratingSum(13L)
+                .rating1Count(0L)
+                .rating2Count(0L)
+                .rating3Count(0L)
+                .rating4Count(2L)
+                .rating5Count(1L)
+                .build()));
+
+        // Act
+        var result = reviewService.getHotelReviewStats(1L);
+
+        // Assert
+        assertEquals("HOTEL", result.getLevel());
+        assertEquals(3L, result.getTotalReviews());
+        assertEquals(4.33, result.getAverageRating());
+        verifyNoInteractions(hotelRepository);
+    }
+
+    @Test
+    void getHotelReviewStats_HotelNotFound() {
+        // Arrange
+        when(hotelReviewStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(hotelRepository.findByHotelId(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> reviewService.getHotelReviewStats(1L));
+    }
+
+    @Test
+    void getHotelTypeReviewStats_NoReviewedHotels() {
+        // Arrange
+        when(hotelTypeRepository.findByHotelTypeId(1L)).thenReturn(Optional.of(testHotelType));
+        when(hotelReviewStatsRepository.sumByHotelTypeId(1L)).thenReturn(mock(RatingSummary.class));
+
+        // Act
+        var result = reviewService.getHotelTypeReviewStats(1L);
+
+        // Assert
+        assertEquals("HOTEL_TYPE", result.getLevel());
+        assertEquals(0L, result.getTotalReviews());
+        assertNull(result.getAverageRating());
+    }
+
+    @Test
+    void createReviews_MixedBatch_ReportsPerItemOutcome() {
+        // Arrange
+        Booking otherRoomBooking = Booking.builder()
+                .bookingId(2L)
+                .roomId(2L)
+                .guestEmail("other@example.com")
+                .build();
+        ReviewRequest valid = testReviewRequest;
+        ReviewRequest invalidRating = ReviewRequest.builder()
+                .roomId(1L).bookingId(3L).rating((short) 9).reviewerEmail("guest@example.com").build();
+        ReviewRequest wrongRoom = ReviewRequest.builder()
+                .roomId(1L).bookingId(2L).rating((short) 4).reviewerEmail("other@example.com").build();
+        ReviewRequest duplicateInBatch = ReviewRequest.builder()
+                .roomId(1L).bookingId(1L).rating((short) 3).reviewerEmail("guest@example.com").build();
+
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        when(roomRepository.findAllById(anyIterable())).thenReturn(List.of(testRoom));
+        when(bookingRepository.findAllById(anyIterable())).thenReturn(List.of(testBooking, otherRoomBooking));
+        when(hotelRepository.findAllById(anyIterable())).thenReturn(List.of(testHotel));
+        when(hotelTypeRepository.findAllById(anyIterable())).thenReturn(List.of(testHotelType));
+        when(reviewRepository.findReviewedBookingIds(anyCollection())).thenReturn(List.of());
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(reviewRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Review> reviews = invocation.getArgument(0);
+            reviews.forEach(review -> {
+                review.setReviewId(10L);
+                review.setCreatedAt(createdAt);
+            });
+            return reviews;
+        });
+        when(roomReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(hotelReviewStatsRepository.incrementCounts(anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // Act
+        var result = reviewService.createReviews(List.of(valid, invalidRating, wrongRoom, duplicateInBatch));
+
+        // Assert
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        assertEquals("CREATED", result.getResults().get(0).getStatus());
+        assertEquals(10L, result.getResults().get(0).getReview().getReviewId());
+        assertEquals("VALIDATION_ERROR", result.getResults().get(1).getCode());
+        assertEquals("Validation failed: Rating must be at most 5", result.getResults().get(1).getMessage());
+        assertEquals("Booking does not belong to the specified room", result.getResults().get(2).getMessage());
+        assertEquals("DUPLICATE_REVIEW", result.getResults().get(3).getCode());
+        verify(roomReviewStatsRepository, times(1)).incrementCounts(1L, 1L, 5L, 0L, 0L, 0L, 0L, 1L, createdAt);
+        verify(hotelReviewStatsRepository, times(1)).incrementCounts(1L, 1L, 5L, 0L, 0L, 0L, 0L, 1L, createdAt);
+    }
+
+    @Test
+    void createReviews_BookingReviewedConcurrently_RetriedAndReportedAsDuplicate() {
+        // Arrange
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(true);
+        when(roomRepository.findAllById(anyIterable())).thenReturn(List.of(testRoom));
+        when(bookingRepository.findAllById(anyIterable())).thenReturn(List.of(testBooking));
+        when(hotelRepository.findAllById(anyIterable())).thenReturn(List.of(testHotel));
+        when(hotelTypeRepository.findAllById(anyIterable())).thenReturn(List.of(testHotelType));
+        when(reviewRepository.findReviewedBookingIds(anyCollection())).thenReturn(List.of(), List.of(1L));
+        when(reviewRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("could not execute batch",
+                        new SQLException("duplicate key value", "23505")))
+                .thenReturn(List.of());
+
+        // Act
+        var result = reviewService.createReviews(List.of(testReviewRequest));
+
+        // Assert
+        assertEquals(0, result.getSucceeded());
+        assertEquals("DUPLICATE_REVIEW", result.getResults().get(0).getCode());
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void createReviews_GlobalToggleDisabled() {
+        // Arrange
+        when(featureToggleService.isGlobalWriteReviewEnabled()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(FeatureDisabledException.class, () -> reviewService.createReviews(List.of(testReviewRequest)));
+        verify(reviewRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void getReviewStats_ManyRooms_SingleGroupByPass() {
+        // Arrange
+        List<Long> roomIds = List.of(2L, 1L, 99L);
+        when(roomRepository.findExistingRoomIds(roomIds)).thenReturn(List.of(1L, 2L));
+        when(reviewRepository.findRatingCountsByRoomIds(anyCollection())).thenReturn(List.of(
+                ratingCount(1L, (short) 5, 2L, LocalDateTime.now()),
+                ratingCount(1L, (short) 3, 1L, LocalDateTime.now())));
+
+        // Act
+        var result = reviewService.getReviewStats(roomIds);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getRoomId());
+        assertEquals(0L, result.get(0).getTotalReviews());
+        assertNull(result.get(0).getAverageRating());
+        assertEquals(1L, result.get(1).getRoomId());
+        assertEquals(3L, result.get(1).getTotalReviews());
+        assertEquals(4.33, result.get(1).getAverageRating());
+        assertEquals(2L, result.get(1).getRatingDistribution().get((short) 5));
+        verify(reviewRepository, times(1)).findRatingCountsByRoomIds(anyCollection());
+        verifyNoInteractions(roomReviewStatsRepository);
+    }
+
+    @Test
+    void getReviewStats_ManyRooms_NoneExist() {
+        // Arrange
+        when(roomRepository.findExistingRoomIds(List.of(99L))).thenReturn(List.of());
+
+        // Act
+        var result = reviewService.getReviewStats(List.of(99L));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(reviewRepository, never()).findRatingCountsByRoomIds(anyCollection());
+    }
+
+    /**
+     * The join row for {@code testRoom}; pass null for a booking, hotel or hotel type that does not exist.
+     */
+    private ReviewTarget target(Booking booking, Hotel hotel, HotelType hotelType) {
+        return new ReviewTarget() {
+            @Override
+            public Long getRoomId() {
+                return testRoom.getRoomId();
+            }
+
+            @Override
+            public Long getRoomHotelId() {
+                return testRoom.getHotelId();
+            }
+
+            @Override
+            public Long getBookingId() {
+                return booking != null ? booking.getBookingId() : null;
+            }
+
+            @Override
+            public Long getBookingRoomId() {
+                return booking != null ? booking.getRoomId() : null;
+            }
+
+            @Override
+            public String getGuestEmail() {
+                return booking != null ? booking.getGuestEmail() : null;
+            }
+
+            @Override
+            public String getGuestName() {
+                return booking != null ? booking.getGuestName() : null;
+            }
+
+            @Override
+            public Long getHotelId() {
+                return hotel != null ? hotel.getHotelId() : null;
+            }
+
+            @Override
+            public Long getHotelTypeId() {
+                return hotel != null ? hotel.getHotelTypeId() : null;
+            }
+
+            @Override
+            public Boolean getReviewEnabled() {
+                return hotelType != null ? hotelType.getReviewEnabled() : null;
+            }
+        };
+    }
+
+    private static RoomRatingCount ratingCount(short rating, Long count, LocalDateTime lastReviewAt) {
+        return ratingCount(1L, rating, count, lastReviewAt);
+    }
+
+    private static RoomRatingCount ratingCount(Long roomId, short rating, Long count, LocalDateTime lastReviewAt) {
+        return new RoomRatingCount() {
+            @Override
+            public Long getRoomId() {
+                return roomId;
+            }
+
+            @Override
+            public Short getRating() {
+                return rating;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastReviewAt() {
+                return lastReviewAt;
+            }
+        };
+    }
 }
@@ -0,0 +1,234 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelReviewStats;
+import com.booking.reviews.entity.RoomReviewStats;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.HotelReviewStatsRepository;
+import com.booking.reviews.repository.ReviewRepository;
+import com.booking.reviews.repository.RoomReviewStatsRepository;
+import com.booking.reviews.repository.projection.HotelRatingCount;
+import com.booking.reviews.repository.projection.RoomRatingCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewStatsReconciliationJobTest {
+
+    private static final LocalDateTime REVIEWED_AT = LocalDateTime.of(2025, 12, 25, 17, 20);
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Mock
+    private HotelReviewStatsRepository hotelReviewStatsRepository;
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReviewStatsReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ReviewStatsReconciliationJob(reviewRepository, roomReviewStatsRepository,
+                hotelReviewStatsRepository, hotelRepository, transactionManager);
+    }
+
+    @Test
+    void reconcile_NoDrift() {
+        // Arrange
+        when(reviewRepository.findAllRatingCounts()).thenReturn(List.of(ratingCount(1L, (short) 5, 2L)));
+        when(roomReviewStatsRepository.findAll()).thenReturn(List.of(stats(1L, 2L, 0L, 2L)));
+
+        // Act
+        int repaired = job.reconcile();
+
+        // Assert
+        assertEquals(0, repaired);
+        verify(roomReviewStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void reconcile_RepairsDriftedRow() {
+        // Arrange
+        when(reviewRepository.findAllRatingCounts()).thenReturn(List.of(
+                ratingCount(1L, (short) 5, 2L),
+                ratingCount(1L, (short) 1, 1L)));
+        RoomReviewStats drifted = stats(1L, 2L, 0L, 2L);
+        when(roomReviewStatsRepository.findAll()).thenReturn(List.of(drifted));
+        when(roomReviewStatsRepository.findByRoomIdForUpdate(1L)).thenReturn(Optional.of(drifted));
+        when(reviewRepository.findRatingCountsByRoomId(1L)).thenReturn(List.of(
+                ratingCount(1L, (short) 5, 2L),
+                ratingCount(1L, (short) 1, 1L)));
+
+        // Act
+        int repaired = job.reconcile();
+
+        // Assert
+        assertEquals(1, repaired);
+        verify(roomReviewStatsRepository).save(drifted);
+        assertEquals(3L, drifted.getTotalReviews());
+        assertEquals(11L, drifted.getRatingSum());
+        assertEquals(1L, drifted.getRating1Count());
+    }
+
+    @Test
+    void reconcile_CreatesMissingRow() {
+        // Arrange
+        when(reviewRepository.findAllRatingCounts()).thenReturn(List.of(ratingCount(7L, (short) 3, 1L)));
+        when(roomReviewStatsRepository.findAll()).thenReturn(List.of());
+        when(roomReviewStatsRepository.findByRoomIdForUpdate(7L)).thenReturn(Optional.empty());
+        when(reviewRepository.findRatingCountsByRoomId(7L)).thenReturn(List.of(ratingCount(7L, (short) 3, 1L)));
+
+        // Act
+        int repaired = job.reconcile();
+
+        // Assert
+        assertEquals(1, repaired);
+        ArgumentCaptor<RoomReviewStats> captor = ArgumentCaptor.forClass(RoomReviewStats.class);
+        verify(roomReviewStatsRepository).save(captor.capture());
+        assertEquals(7L, captor.getValue().getRoomId());
+        assertEquals(1L, captor.getValue().getRating3Count());
+        assertEquals(REVIEWED_AT, captor.getValue().getLastReviewAt());
+    }
+
+    @Test
+    void reconcile_RepairsHotelMovedToAnotherType() {
+        // Arrange
+        Hotel hotel = Hotel.builder().hotelId(3L).hotelTypeId(2L).hotelName("Moved").build();
+        HotelReviewStats stored = HotelReviewStats.builder()
+                .hotelId(3L)
+                .hotelTypeId(1L)
+                .totalReviews(1L)
+                .ratingSum(3L)
+                .rating1Count(0L)
+                .rating2Count(0L)
+                .rating3Count(1L)
+                .rating4Count(0L)
+                .rating5Count(0L)
+                .lastReviewAt(REVIEWED_AT)
+                .build();
+        when(reviewRepository.findAllHotelRatingCounts()).thenReturn(List.of(hotelRatingCount(3L, (short) 3, 1L)));
+        when(hotelRepository.findAll()).thenReturn(List.of(hotel));
+        when(hotelReviewStatsRepository.findAll()).thenReturn(List.of(stored));
+        when(hotelRepository.findById(3L)).thenReturn(Optional.of(hotel));
+        when(hotelReviewStatsRepository.findByHotelIdForUpdate(3L)).thenReturn(Optional.of(stored));
+        when(reviewRepository.findRatingCountsByHotelId(3L)).thenReturn(List.of(hotelRatingCount(3L, (short) 3, 1L)));
+
+        // Act
+        int repaired = job.reconcile();
+
+        // Assert
+        assertEquals(1, repaired);
+        verify(hotelReviewStatsRepository).save(stored);
+        assertEquals(2L, stored.getHotelTypeId());
+        assertEquals(1L, stored.getTotalReviews());
+    }
+
+    @Test
+    void reconcile_RemovesRollupOfDeletedHotel() {
+        // Arrange
+        HotelReviewStats orphan = HotelReviewStats.builder()
+                .hotelId(4L)
+                .hotelTypeId(1L)
+                .totalReviews(0L)
+                .ratingSum(0L)
+                .rating1Count(0L)
+                .rating2Count(0L)
+                .rating3Count(0L)
+                .rating4Count(0L)
+                .rating5Count(0L)
+                .build();
+        when(hotelReviewStatsRepository.findAll()).thenReturn(List.of(orphan));
+        when(hotelRepository.findById(4L)).thenReturn(Optional.empty());
+
+        // Act
+        int repaired = job.reconcile();
+
+        // Assert
+        assertEquals(1, repaired);
+        verify(hotelReviewStatsRepository).deleteById(4L);
+        verify(hotelReviewStatsRepository, never()).save(any());
+    }
+
+    private static RoomReviewStats stats(Long roomId, long total, long rating1, long rating5) {
+        return RoomReviewStats.builder()
+                .roomId(roomId)
+                .totalReviews(total)
+                .ratingSum(rating1 + rating5 * 5)
+                .rating1Count(rating1)
+                .rating2Count(0L)
+                .rating3Count(0L)
+                .rating4Count(0L)
+                .rating5Count(rating5)
+                .lastReviewAt(REVIEWED_AT)
+                .build();
+    }
+
+    private static RoomRatingCount ratingCount(Long roomId, short rating, Long count) {
+        return new RoomRatingCount() {
+            @Override
+            public Long getRoomId() {
+                return roomId;
+            }
+
+            @Override
+            public Short getRating() {
+                return rating;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastReviewAt() {
+                return REVIEWED_AT;
+            }
+        };
+    }
+
+    private static HotelRatingCount hotelRatingCount(Long hotelId, short rating, Long count) {
+        return new HotelRatingCount() {
+            @Override
+            public Long getHotelId() {
+                return hotelId;
+            }
+
+            @Override
+            public Short getRating() {
+                return rating;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastReviewAt() {
+                return REVIEWED_AT;
+            }
+        };
+    }
+}
@@ -0,0 +1,190 @@
+package com.booking.reviews.service;
+
+import com.booking.reviews.dto.RatingRollupResponse;
+import com.booking.reviews.dto.RoomLeaderboardResponse;
+import com.booking.reviews.entity.Hotel;
+import com.booking.reviews.entity.HotelType;
+import com.booking.reviews.exception.ResourceNotFoundException;
+import com.booking.reviews.repository.HotelRepository;
+import com.booking.reviews.repository.HotelTypeRepository;
+import com.booking.reviews.repository.RoomReviewStatsRepository;
+import com.booking.reviews.repository.projection.RoomStanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomLeaderboardServiceTest {
+
+    private static final LocalDateTime REVIEWED_AT = LocalDateTime.of(2025, 12, 25, 17, 20);
+
+    @Mock
+    private RoomReviewStatsRepository roomReviewStatsRepository;
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private HotelTypeRepository hotelTypeRepository;
+
+    private RoomLeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new RoomLeaderboardService(roomReviewStatsRepository, hotelRepository,
+                hotelTypeRepository, 3L, 50);
+        lenient().when(hotelRepository.findByHotelId(1L))
+                .thenReturn(Optional.of(Hotel.builder().hotelId(1L).hotelTypeId(1L).build()));
+        lenient().when(hotelTypeRepository.findByHotelTypeId(1L))
+                .thenReturn(Optional.of(HotelType.builder().hotelTypeId(1L).build()));
+    }
+
+    @Test
+    void rebuild_RanksByAverageThenReviewCount() {
+        // Arrange
+        when(roomReviewStatsRepository.findAllStandings()).thenReturn(List.of(
+                standing(10L, 1L, 1L, 4L, 16L),
+                standing(11L, 1L, 1L, 3L, 15L),
+                standing(12L, 1L, 1L, 8L, 32L),
+                standing(13L, 2L, 1L, 5L, 10L)));
+
+        // Act
+        leaderboardService.rebuild();
+        RoomLeaderboardResponse hotel = leaderboardService.getHotelLeaderboard(1L, 10);
+        RoomLeaderboardResponse hotelType = leaderboardService.getHotelTypeLeaderboard(1L, 2);
+
+        // Assert
+        assertEquals(RatingRollupResponse.HOTEL, hotel.getLevel());
+        assertEquals(3L, hotel.getMinReviews());
+        assertEquals(List.of(11L, 12L, 10L), hotel.getRooms().stream().map(e -> e.getRoomId()).toList());
+        assertEquals(1, hotel.getRooms().get(0).getRank());
+        assertEquals(5.0, hotel.getRooms().get(0).getAverageRating());
+        assertEquals(List.of(11L, 12L), hotelType.getRooms().stream().map(e -> e.getRoomId()).toList());
+    }
+
+    @Test
+    void rebuild_SkipsRoomsBelowMinReviews() {
+        // Arrange
+        when(roomReviewStatsRepository.findAllStandings()).thenReturn(List.of(
+                standing(10L, 1L, 1L, 2L, 10L),
+                standing(11L, 1L, 1L, 3L, 9L)));
+
+        // Act
+        leaderboardService.rebuild();
+        RoomLeaderboardResponse response = leaderboardService.getHotelLeaderboard(1L, 10);
+
+        // Assert
+        assertEquals(1, response.getRooms().size());
+        assertEquals(11L, response.getRooms().get(0).getRoomId());
+    }
+
+    @Test
+    void onReviewsCreated_MovesRoomInPlace() {
+        // Arrange
+        when(roomReviewStatsRepository.findAllStandings()).thenReturn(List.of(
+                standing(10L, 1L, 1L, 3L, 15L),
+                standing(11L, 1L, 1L, 3L, 12L),
+                standing(12L, 1L, 1L, 2L, 10L)));
+        leaderboardService.rebuild();
+
+        // Act - room 10 drops to 3.0, room 12 reaches the threshold with 5.0
+        leaderboardService.onReviewsCreated(new ReviewsCreatedEvent(List.of(
+                delta(10L, (short) 1, (short) 1, (short) 1),
+                delta(12L, (short) 5))));
+        RoomLeaderboardResponse response = leaderboardService.getHotelLeaderboard(1L, 10);
+
+        // Assert
+        assertEquals(List.of(12L, 11L, 10L), response.getRooms().stream().map(e -> e.getRoomId()).toList());
+        assertEquals(6L, response.getRooms().get(2).getTotalReviews());
+        assertEquals(3.0, response.getRooms().get(2).getAverageRating());
+    }
+
+    @Test
+    void getHotelLeaderboard_AppliesLimit() {
+        // Arrange
+        when(roomReviewStatsRepository.findAllStandings()).thenReturn(List.of(
+                standing(10L, 1L, 1L, 3L, 15L),
+                standing(11L, 1L, 1L, 3L, 12L)));
+        leaderboardService.rebuild();
+
+        // Act
+        RoomLeaderboardResponse response = leaderboardService.getHotelLeaderboard(1L, 1);
+
+        // Assert
+        assertEquals(1, response.getRooms().size());
+        assertEquals(10L, response.getRooms().get(0).getRoomId());
+    }
+
+    @Test
+    void getHotelLeaderboard_NoRankedRooms() {
+        // Act
+        RoomLeaderboardResponse response = leaderboardService.getHotelLeaderboard(1L, 10);
+
+        // Assert
+        assertTrue(response.getRooms().isEmpty());
+    }
+
+    @Test
+    void getHotelLeaderboard_HotelNotFound() {
+        // Arrange
+        when(hotelRepository.findByHotelId(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> leaderboardService.getHotelLeaderboard(99L, 10));
+    }
+
+    @Test
+    void getHotelTypeLeaderboard_HotelTypeNotFound() {
+        // Arrange
+        when(hotelTypeRepository.findByHotelTypeId(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> leaderboardService.getHotelTypeLeaderboard(99L, 10));
+    }
+
+    private static ReviewsCreatedEvent.RoomDelta delta(Long roomId, short... ratings) {
+        RatingTally tally = new RatingTally();
+        for (short rating : ratings) {
+            tally.add(rating, REVIEWED_AT);
+        }
+        return new ReviewsCreatedEvent.RoomDelta(roomId, 1L, 1L, tally);
+    }
+
+    private static RoomStanding standing(Long roomId, Long hotelId, Long hotelTypeId, Long totalReviews, Long ratingSum) {
+        return new RoomStanding() {
+            @Override
+            public Long getRoomId() {
+                return roomId;
+            }
+
+            @Override
+            public Long getHotelId() {
+                return hotelId;
+            }
+
+            @Override
+            public Long getHotelTypeId() {
+                return hotelTypeId;
+            }
+
+            @Override
+            public Long getTotalReviews() {
+                return totalReviews;
+            }
+
+            @Override
+            public Long getRatingSum() {
+                return ratingSum;
+            }
+        };
+    }
+}